@@ -0,0 +1,70 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LineDispatchBenchmark {
+
+    private static final String STYLE_FORMAT = "Format: Name, Fontname, Fontsize, PrimaryColour, SecondaryColour, OutlineColour, BackColour, "
+            + "Bold, Italic, Underline, StrikeOut, ScaleX, ScaleY, Spacing, Angle, BorderStyle, Outline, Shadow, "
+            + "Alignment, MarginL, MarginR, MarginV, Encoding";
+    private static final int STYLES_PER_INVOCATION = 1024;
+    private static final String EVENT_FORMAT = "Format: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text";
+
+    private final String[] dialogues = {
+            "Dialogue: 0,0:00:13.30,0:00:15.44,Default,,0,0,0,,{\\an8}Where are we going?",
+            "Dialogue: 1,0:01:17.44,0:01:19.10,Sign,Alice,10,10,20,Fade,{\\pos(640,80)\\fad(200,200)}Station",
+            "Dialogue: 0,1:23:45.67,1:23:47.00,Default,Bob,0,0,0,,Over here, quickly!",
+            "Dialogue: 2,0:00:00.56,0:00:02.00,Top,,0,0,0,,{\\i1}...{\\i0}"
+    };
+    private final String style = "Style: Default,MS Gothic,48,&H00FFFFFF,&H000000FF,&H00000000,&H00000000,"
+            + "0,0,0,0,100,100,0,0,1,2,0,2,10,10,10,1";
+
+    private AssFileParser eventParser;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventParser = new AssFileParser(ParseOptions.DEFAULT, event -> {});
+        eventParser.consume("[Events]", 0);
+        eventParser.consume(EVENT_FORMAT, 1);
+    }
+
+    @Benchmark
+    public void dialogue() {
+        eventParser.consume(dialogues[next++ & 3], 2);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STYLES_PER_INVOCATION)
+    public AssFileParser style() {
+        var styleParser = new AssFileParser();
+        styleParser.consume("[V4+ Styles]", 0);
+        styleParser.consume(STYLE_FORMAT, 1);
+
+        for (int i = 0; i < STYLES_PER_INVOCATION; ++i) {
+            styleParser.consume(style, 2 + i);
+        }
+
+        return styleParser;
+    }
+}
@@ -0,0 +1,36 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParseBenchmark {
+
+    private final String[] times = {"0:00:13.30", "0:01:17.44", "1:23:45.67", "0:00:00:56"};
+    private final String[] decimals = {"100.0000", "2,5", "48", "0.00"};
+    private int next;
+
+    @Benchmark
+    public long time() {
+        return Parse.time(times[next++ & 3]);
+    }
+
+    @Benchmark
+    public double decimal() {
+        return Parse.decimal(decimals[next++ & 3]);
+    }
+}
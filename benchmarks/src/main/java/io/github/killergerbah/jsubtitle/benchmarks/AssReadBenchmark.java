@@ -0,0 +1,78 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AssReadBenchmark {
+
+    @Param({"1KB", "1MB", "64MB"})
+    public String size;
+
+    @Param({"bytes", "string", "file"})
+    public String source;
+
+    @Param({"false", "true"})
+    public boolean lazyEvents;
+
+    private SubtitleInput input;
+    private ParseOptions options;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        input = SubtitleInput.create(SyntheticSubtitles.Format.ASS, size, source);
+        options = ParseOptions.builder().lazyEvents(lazyEvents).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        input.close();
+    }
+
+    @Benchmark
+    public AssFile read() throws IOException {
+        switch (source) {
+            case "bytes":
+                return AssFile.read(input.bytes(), options);
+            case "string":
+                return AssFile.read(input.string(), options);
+            default:
+                return AssFile.read(input.file(), options);
+        }
+    }
+
+    @Benchmark
+    public AssFile readParallel() throws IOException {
+        switch (source) {
+            case "bytes":
+                return AssFile.readParallel(input.bytes(), options, ForkJoinPool.commonPool());
+            case "string":
+                return AssFile.readParallel(input.string().getBytes(StandardCharsets.UTF_8), options, ForkJoinPool.commonPool());
+            default:
+                return AssFile.readParallel(input.file(), options, ForkJoinPool.commonPool());
+        }
+    }
+}
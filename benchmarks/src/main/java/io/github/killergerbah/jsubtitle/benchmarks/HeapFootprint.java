@@ -0,0 +1,59 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import io.github.killergerbah.jsubtitle.ass.AssEventTable;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitleTable;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.management.ManagementFactory;
+
+public final class HeapFootprint {
+
+    private HeapFootprint() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long size = SyntheticSubtitles.parseSize(args.length > 0 ? args[0] : "16MB");
+
+        var assBytes = SyntheticSubtitles.generate(SyntheticSubtitles.Format.ASS, size, SyntheticSubtitles.DEFAULT_SEED);
+        long baseline = usedHeap();
+        var events = AssFile.read(assBytes).getEventSection().getEvents();
+        long listBytes = usedHeap() - baseline;
+        var table = AssEventTable.of(events);
+        long bothBytes = usedHeap() - baseline;
+        report("ass", events.size(), listBytes, bothBytes - listBytes);
+        Reference.reachabilityFence(events);
+        Reference.reachabilityFence(table);
+
+        events = null;
+        table = null;
+        assBytes = null;
+
+        var srtBytes = SyntheticSubtitles.generate(SyntheticSubtitles.Format.SRT, size, SyntheticSubtitles.DEFAULT_SEED);
+        baseline = usedHeap();
+        var subtitles = SrtSubtitle.read(srtBytes);
+        listBytes = usedHeap() - baseline;
+        var subtitleTable = SrtSubtitleTable.of(subtitles);
+        bothBytes = usedHeap() - baseline;
+        report("srt", subtitles.size(), listBytes, bothBytes - listBytes);
+        Reference.reachabilityFence(subtitles);
+        Reference.reachabilityFence(subtitleTable);
+    }
+
+    private static void report(String format, int count, long listBytes, long tableBytes) {
+        System.out.printf("%s: %d cues, objects %.1f B/cue, table %.1f B/cue, ratio %.2fx%n",
+                format, count, (double) listBytes / count, (double) tableBytes / count, (double) listBytes / tableBytes);
+    }
+
+    private static long usedHeap() {
+        var memory = ManagementFactory.getMemoryMXBean();
+
+        for (int i = 0; i < 5; ++i) {
+            System.gc();
+        }
+
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
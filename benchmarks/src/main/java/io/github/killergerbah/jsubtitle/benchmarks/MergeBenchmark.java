@@ -0,0 +1,84 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import io.github.killergerbah.jsubtitle.merge.TrackMerger;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MergeBenchmark {
+
+    @Param({"1MB"})
+    public String size;
+
+    private List<SrtSubtitle> first;
+    private List<SrtSubtitle> second;
+    private TrackMerger merger;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        long bytes = SyntheticSubtitles.parseSize(size);
+        first = SrtSubtitle.read(SyntheticSubtitles.generate(SyntheticSubtitles.Format.SRT, bytes, SyntheticSubtitles.DEFAULT_SEED));
+        second = SrtSubtitle.read(SyntheticSubtitles.generate(SyntheticSubtitles.Format.SRT, bytes, SyntheticSubtitles.DEFAULT_SEED + 1));
+        merger = TrackMerger.builder().minOverlap(100).build();
+    }
+
+    @Benchmark
+    public int sweep() {
+        return merger.match(first, second).size();
+    }
+
+    @Benchmark
+    public int sortedStream() {
+        var matches = merger.match(first.iterator(), second.iterator());
+        int count = 0;
+
+        while (matches.hasNext()) {
+            matches.next();
+            ++count;
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public int union() {
+        return merger.union(first, second).size();
+    }
+
+    @Benchmark
+    public int nestedLoop() {
+        int count = 0;
+
+        for (var a : first) {
+            for (var b : second) {
+                long overlap = Math.min(a.getEnd(), b.getEnd()) - Math.max(a.getStart(), b.getStart());
+
+                if (overlap > 0 && overlap >= 100) {
+                    ++count;
+                }
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitleTable;
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RetimeBenchmark {
+
+    @Param({"64MB"})
+    public String size;
+
+    @Param({"shift", "fps", "piecewise"})
+    public String transform;
+
+    private List<SrtSubtitle> subtitles;
+    private TimeTransform timeTransform;
+    private long[] originalStarts;
+    private long[] originalEnds;
+    private long[] starts;
+    private long[] ends;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var bytes = SyntheticSubtitles.generate(SyntheticSubtitles.Format.SRT, SyntheticSubtitles.parseSize(size), SyntheticSubtitles.DEFAULT_SEED);
+        subtitles = SrtSubtitle.read(bytes);
+        var table = SrtSubtitleTable.of(subtitles);
+        originalStarts = new long[table.size()];
+        originalEnds = new long[table.size()];
+
+        for (int i = 0; i < table.size(); ++i) {
+            originalStarts[i] = table.getStart(i);
+            originalEnds[i] = table.getEnd(i);
+        }
+
+        starts = originalStarts.clone();
+        ends = originalEnds.clone();
+        timeTransform = transform(transform);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        System.arraycopy(originalStarts, 0, starts, 0, starts.length);
+        System.arraycopy(originalEnds, 0, ends, 0, ends.length);
+    }
+
+    @Benchmark
+    public long[] columns() {
+        timeTransform.apply(starts, 0, starts.length);
+        timeTransform.apply(ends, 0, ends.length);
+        return ends;
+    }
+
+    @Benchmark
+    public List<SrtSubtitle> objects() {
+        var retimed = new ArrayList<SrtSubtitle>(subtitles.size());
+
+        for (var subtitle : subtitles) {
+            retimed.add(new Retimed(subtitle, timeTransform.apply(subtitle.getStart()), timeTransform.apply(subtitle.getEnd())));
+        }
+
+        return retimed;
+    }
+
+    private static TimeTransform transform(String name) {
+        switch (name) {
+            case "shift":
+                return TimeTransform.shift(-1_500);
+            case "fps":
+                return TimeTransform.fps(25, 23.976);
+            case "piecewise":
+                var sources = new long[64];
+                var targets = new long[64];
+
+                for (int i = 0; i < sources.length; ++i) {
+                    sources[i] = TimeUnit.HOURS.toMillis(99) * i / (sources.length - 1);
+                    targets[i] = sources[i] + (i % 2 == 0 ? 0 : 750);
+                }
+
+                return TimeTransform.piecewise(sources, targets);
+            default:
+                throw new IllegalArgumentException(name);
+        }
+    }
+
+    private static final class Retimed implements SrtSubtitle {
+
+        private final SrtSubtitle subtitle;
+        private final long start;
+        private final long end;
+
+        Retimed(SrtSubtitle subtitle, long start, long end) {
+            this.subtitle = subtitle;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int getIndex() {
+            return subtitle.getIndex();
+        }
+
+        @Override
+        public long getStart() {
+            return start;
+        }
+
+        @Override
+        public long getEnd() {
+            return end;
+        }
+
+        @Override
+        public String getText() {
+            return subtitle.getText();
+        }
+    }
+}
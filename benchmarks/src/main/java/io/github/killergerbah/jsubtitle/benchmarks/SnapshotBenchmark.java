@@ -0,0 +1,71 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.snapshot.SubtitleSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @Param({"1MB", "64MB"})
+    public String size;
+
+    private SubtitleInput input;
+    private File snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        input = SubtitleInput.create(SyntheticSubtitles.Format.ASS, size, "file");
+        snapshot = Files.createTempFile("jsubtitle-benchmark", ".snapshot").toFile();
+        SubtitleSnapshot.write(AssFile.read(input.file()), snapshot);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        input.close();
+        Files.deleteIfExists(snapshot.toPath());
+    }
+
+    @Benchmark
+    public AssFile parseText() throws IOException {
+        return AssFile.read(input.file());
+    }
+
+    @Benchmark
+    public AssFile loadSnapshot() throws IOException {
+        return SubtitleSnapshot.readAss(snapshot);
+    }
+
+    @Benchmark
+    public long loadSnapshotAndScanTimes() throws IOException {
+        long sum = 0;
+
+        for (var event : SubtitleSnapshot.readAss(snapshot).getEventSection().getEvents()) {
+            sum += event.getEnd() - event.getStart();
+        }
+
+        return sum;
+    }
+}
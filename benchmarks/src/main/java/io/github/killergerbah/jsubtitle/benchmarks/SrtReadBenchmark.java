@@ -0,0 +1,65 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import io.github.killergerbah.jsubtitle.srt.SrtBufferReader;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SrtReadBenchmark {
+
+    @Param({"1KB", "1MB", "64MB"})
+    public String size;
+
+    @Param({"bytes", "string", "file", "mapped"})
+    public String source;
+
+    private SubtitleInput input;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        input = SubtitleInput.create(SyntheticSubtitles.Format.SRT, size, source);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        input.close();
+    }
+
+    @Benchmark
+    public List<SrtSubtitle> read() throws IOException {
+        switch (source) {
+            case "bytes":
+                return SrtSubtitle.read(input.bytes());
+            case "string":
+                return SrtSubtitle.read(input.string());
+            case "mapped":
+                var subtitles = new ArrayList<SrtSubtitle>();
+                SrtBufferReader.map(input.file()).forEachRemaining(subtitles::add);
+                return subtitles;
+            default:
+                return SrtSubtitle.read(input.file());
+        }
+    }
+}
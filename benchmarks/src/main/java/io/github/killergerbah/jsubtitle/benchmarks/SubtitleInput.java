@@ -0,0 +1,56 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public final class SubtitleInput implements AutoCloseable {
+
+    private final Path path;
+    private final byte[] bytes;
+    private final String string;
+
+    private SubtitleInput(Path path, byte[] bytes, String string) {
+        this.path = path;
+        this.bytes = bytes;
+        this.string = string;
+    }
+
+    public static SubtitleInput create(SyntheticSubtitles.Format format, String size, String source) throws IOException {
+        var path = Files.createTempFile("jsubtitle-benchmark", "." + format.name().toLowerCase());
+        SyntheticSubtitles.write(format, SyntheticSubtitles.parseSize(size), SyntheticSubtitles.DEFAULT_SEED, path);
+
+        byte[] bytes = null;
+        String string = null;
+
+        if ("bytes".equals(source) || "string".equals(source)) {
+            bytes = Files.readAllBytes(path);
+        }
+
+        if ("string".equals(source)) {
+            string = new String(bytes, StandardCharsets.UTF_8);
+            bytes = null;
+        }
+
+        return new SubtitleInput(path, bytes, string);
+    }
+
+    public File file() {
+        return path.toFile();
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    public String string() {
+        return string;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,235 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+public final class SyntheticSubtitles {
+
+    public static final long DEFAULT_SEED = 0x5EED_5AB5L;
+
+    private static final long MAX_TIME = TimeUnit.HOURS.toMillis(99);
+
+    private static final String[] LATIN_WORDS = {
+            "the", "wall", "beyond", "ocean", "titan", "soldier", "remember", "never", "forget",
+            "what", "we", "saw", "that", "day", "run", "now", "Armin", "Eren", "Mikasa", "scout",
+            "regiment", "gate", "district", "horse", "blade", "gas", "signal", "flare", "quiet"
+    };
+
+    private static final String[] STYLES = {"Default", "CN", "单JP", "OP-JP", "OP-CN", "Staff", "Sign"};
+
+    private static final String[] EFFECTS = {"", "", "", "", "Banner;20", "Scroll up;40;300"};
+
+    private static final String[] TAGS = {"", "", "", "{\\an8}", "{\\pos(960,90)}", "{\\fad(300,300)}", "{\\k20}", "{\\i1}"};
+
+    private SyntheticSubtitles() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: SyntheticSubtitles <srt|ass> <size, e.g. 1KB, 64MB> <output> [seed]");
+            System.exit(1);
+        }
+
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : DEFAULT_SEED;
+        write(Format.valueOf(args[0].toUpperCase(Locale.ROOT)), parseSize(args[1]), seed, Paths.get(args[2]));
+    }
+
+    public static long parseSize(String size) {
+        var upper = size.trim().toUpperCase(Locale.ROOT);
+        long multiplier = 1;
+
+        if (upper.endsWith("KB")) {
+            multiplier = 1024;
+        } else if (upper.endsWith("MB")) {
+            multiplier = 1024 * 1024;
+        } else if (upper.endsWith("GB")) {
+            multiplier = 1024 * 1024 * 1024;
+        }
+
+        var digits = multiplier == 1 ? upper.replace("B", "") : upper.substring(0, upper.length() - 2);
+        return Long.parseLong(digits.trim()) * multiplier;
+    }
+
+    public static byte[] generate(Format format, long size, long seed) {
+        var out = new ByteArrayOutputStream((int) Math.min(Integer.MAX_VALUE - 8, size + 1024));
+
+        try {
+            generate(format, size, seed, out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return out.toByteArray();
+    }
+
+    public static void write(Format format, long size, long seed, Path path) throws IOException {
+        try (var out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            generate(format, size, seed, out);
+        }
+    }
+
+    public static void generate(Format format, long size, long seed, OutputStream out) throws IOException {
+        var random = new SplittableRandom(seed);
+        long written = 0;
+
+        if (format == Format.ASS) {
+            written += write(out, assHeader());
+        }
+
+        long time = 0;
+        int index = 1;
+
+        while (written < size) {
+            time += 200 + random.nextInt(4_000);
+
+            if (time >= MAX_TIME) {
+                time = 0;
+            }
+
+            long end = time + 800 + random.nextInt(5_000);
+            var cue = format == Format.SRT
+                    ? srtCue(random, index, time, end)
+                    : assCue(random, time, end);
+
+            written += write(out, cue);
+            ++index;
+        }
+    }
+
+    private static long write(OutputStream out, String string) throws IOException {
+        var bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.write(bytes);
+        return bytes.length;
+    }
+
+    private static String srtCue(SplittableRandom random, int index, long start, long end) {
+        var builder = new StringBuilder(128);
+        builder.append(index).append("\r\n");
+        srtTimestamp(builder, start);
+        builder.append(" --> ");
+        srtTimestamp(builder, end);
+        builder.append("\r\n");
+        int lines = 1 + random.nextInt(2);
+
+        for (int i = 0; i < lines; ++i) {
+            text(builder, random);
+            builder.append("\r\n");
+        }
+
+        return builder.append("\r\n").toString();
+    }
+
+    private static String assCue(SplittableRandom random, long start, long end) {
+        var builder = new StringBuilder(160);
+        builder.append("Dialogue: ").append(random.nextInt(8) == 0 ? 1 : 0).append(',');
+        assTime(builder, start);
+        builder.append(',');
+        assTime(builder, end);
+        builder.append(',')
+                .append(STYLES[random.nextInt(STYLES.length)])
+                .append(",,0,0,0,")
+                .append(EFFECTS[random.nextInt(EFFECTS.length)])
+                .append(',')
+                .append(TAGS[random.nextInt(TAGS.length)]);
+        text(builder, random);
+
+        if (random.nextInt(4) == 0) {
+            builder.append("\\N");
+            text(builder, random);
+        }
+
+        return builder.append("\r\n").toString();
+    }
+
+    private static void text(StringBuilder builder, SplittableRandom random) {
+        if (random.nextBoolean()) {
+            int words = 2 + random.nextInt(10);
+
+            for (int i = 0; i < words; ++i) {
+                if (i > 0) {
+                    builder.append(' ');
+                }
+
+                builder.append(LATIN_WORDS[random.nextInt(LATIN_WORDS.length)]);
+            }
+        } else {
+            int chars = 4 + random.nextInt(20);
+
+            for (int i = 0; i < chars; ++i) {
+                switch (random.nextInt(3)) {
+                    case 0:
+                        builder.append((char) ('ぁ' + random.nextInt(0x56)));
+                        break;
+                    case 1:
+                        builder.append((char) ('ァ' + random.nextInt(0x5A)));
+                        break;
+                    default:
+                        builder.append((char) ('一' + random.nextInt(0x5000)));
+                        break;
+                }
+            }
+        }
+    }
+
+    private static void srtTimestamp(StringBuilder builder, long millis) {
+        pad(builder, millis / 3_600_000, 2).append(':');
+        pad(builder, millis / 60_000 % 60, 2).append(':');
+        pad(builder, millis / 1000 % 60, 2).append(',');
+        pad(builder, millis % 1000, 3);
+    }
+
+    private static void assTime(StringBuilder builder, long millis) {
+        builder.append(millis / 3_600_000).append(':');
+        pad(builder, millis / 60_000 % 60, 2).append(':');
+        pad(builder, millis / 1000 % 60, 2).append('.');
+        pad(builder, millis / 10 % 100, 2);
+    }
+
+    private static StringBuilder pad(StringBuilder builder, long value, int width) {
+        var string = Long.toString(value);
+
+        for (int i = string.length(); i < width; ++i) {
+            builder.append('0');
+        }
+
+        return builder.append(string);
+    }
+
+    private static String assHeader() {
+        return "[Script Info]\r\n"
+                + "; Synthetic benchmark script\r\n"
+                + "Title: Synthetic\r\n"
+                + "ScriptType: v4.00+\r\n"
+                + "WrapStyle: 0\r\n"
+                + "PlayResX: 1920\r\n"
+                + "PlayResY: 1080\r\n"
+                + "Timer: 100.0000\r\n"
+                + "\r\n"
+                + "[V4+ Styles]\r\n"
+                + "Format: Name, Fontname, Fontsize, PrimaryColour, SecondaryColour, OutlineColour, BackColour, Bold, Italic, Underline, StrikeOut, ScaleX, ScaleY, Spacing, Angle, BorderStyle, Outline, Shadow, Alignment, MarginL, MarginR, MarginV, Encoding\r\n"
+                + "Style: Default,Arial,48,&H00FFFFFF,&H000000FF,&H00000000,&H00000000,0,0,0,0,100,100,0,0,1,2,0,2,15,15,20,1\r\n"
+                + "Style: CN,方正中雅宋_GBK,64,&H00FFFFFF,&H000000FF,&H00000000,&H3C272727,0,0,0,0,100,100,1.5,0,1,3,0,2,15,15,60,1\r\n"
+                + "Style: 单JP,EPSON 太明朝体Ｂ,48,&H00FFFFFF,&H000000FF,&H00000000,&H00000000,0,0,0,0,100,100,0,0,1,2.5,0,2,15,15,20,128\r\n"
+                + "Style: OP-JP,EPSON 太明朝体Ｂ,40,&H00F6F6F6,&H000000FF,&H0A4444DD,&H00000000,0,0,0,0,100,100,0,0,1,2,0,2,15,15,15,128\r\n"
+                + "Style: OP-CN,方正中雅宋_GBK,60,&H0AFBFBFC,&H000000FF,&H1E000000,&H00000000,0,0,0,0,100,100,0,0,1,3,0,2,15,15,55,1\r\n"
+                + "Style: Staff,方正中雅宋_GBK,60,&H00F9FBFD,&H000000FF,&H00000000,&H00000000,0,0,0,0,100,100,2.5,0,1,1.8,0,2,15,15,23,1\r\n"
+                + "Style: Sign,Arial,40,&H00FFFFFF,&H000000FF,&H00000000,&H00000000,-1,0,0,0,100,100,0,0,1,0,0,8,15,15,15,1\r\n"
+                + "\r\n"
+                + "[Events]\r\n"
+                + "Format: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\r\n";
+    }
+
+    public enum Format {
+        SRT,
+        ASS
+    }
+}
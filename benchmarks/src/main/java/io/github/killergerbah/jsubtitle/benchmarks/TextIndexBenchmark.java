@@ -0,0 +1,57 @@
+package io.github.killergerbah.jsubtitle.benchmarks;
+
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.index.TextIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TextIndexBenchmark {
+
+    @Param({"64MB"})
+    public String size;
+
+    private TextIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        var bytes = SyntheticSubtitles.generate(SyntheticSubtitles.Format.ASS, SyntheticSubtitles.parseSize(size), SyntheticSubtitles.DEFAULT_SEED);
+        index = new TextIndex();
+        index.add(AssFile.read(bytes).getEventSection().getEvents());
+        System.out.println("\nIndexed " + index.getCueCount() + " cues, " + index.getTermCount() + " terms, " + index.getPostingBytes() + " posting bytes");
+    }
+
+    @Benchmark
+    public List<TextIndex.Hit> phrase() {
+        return index.phrase("remember that day");
+    }
+
+    @Benchmark
+    public List<TextIndex.Hit> phraseInTimeRange() {
+        return index.phrase("remember that day", TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(2));
+    }
+
+    @Benchmark
+    public List<TextIndex.Hit> rareTerms() {
+        return index.all("mikasa flare quiet");
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.killergerbah.jsubtitle;
+
+final class CompositeParseListener implements ParseListener {
+
+    private final ParseListener first;
+    private final ParseListener second;
+
+    CompositeParseListener(ParseListener first, ParseListener second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public void parseStarted(SubtitleFormat format) {
+        first.parseStarted(format);
+        second.parseStarted(format);
+    }
+
+    @Override
+    public void sectionStarted(SubtitleFormat format, String section, int lineNumber) {
+        first.sectionStarted(format, section, lineNumber);
+        second.sectionStarted(format, section, lineNumber);
+    }
+
+    @Override
+    public void sectionFinished(SubtitleFormat format, String section, int lines, int entries, long nanos) {
+        first.sectionFinished(format, section, lines, entries, nanos);
+        second.sectionFinished(format, section, lines, entries, nanos);
+    }
+
+    @Override
+    public void anomaly(SubtitleFormat format, int lineNumber, String reason, String line) {
+        first.anomaly(format, lineNumber, reason, line);
+        second.anomaly(format, lineNumber, reason, line);
+    }
+
+    @Override
+    public void parseFinished(SubtitleFormat format, long bytes, int lines, int cues, long readNanos, long parseNanos) {
+        first.parseFinished(format, bytes, lines, cues, readNanos, parseNanos);
+        second.parseFinished(format, bytes, lines, cues, readNanos, parseNanos);
+    }
+}
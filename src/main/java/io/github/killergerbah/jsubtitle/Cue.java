@@ -0,0 +1,10 @@
+package io.github.killergerbah.jsubtitle;
+
+public interface Cue {
+
+    long getStart();
+
+    long getEnd();
+
+    String getText();
+}
@@ -0,0 +1,40 @@
+package io.github.killergerbah.jsubtitle;
+
+public final class ParseDiagnostic {
+
+    private final int lineNumber;
+    private final String reason;
+    private final String line;
+
+    private ParseDiagnostic(int lineNumber, String reason, String line) {
+        this.lineNumber = lineNumber;
+        this.reason = reason;
+        this.line = line;
+    }
+
+    public static ParseDiagnostic of(int lineNumber, String reason, String line) {
+        return new ParseDiagnostic(lineNumber, reason, line);
+    }
+
+    public static ParseDiagnostic of(int lineNumber, RuntimeException exception, String line) {
+        var reason = exception.getMessage() == null ? exception.getClass().getSimpleName() : exception.getMessage();
+        return new ParseDiagnostic(lineNumber, reason, line);
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseDiagnostic{lineNumber=" + lineNumber + ", reason=" + reason + ", line=" + line + "}";
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.killergerbah.jsubtitle;
+
+import java.util.Objects;
+
+public interface ParseListener {
+
+    ParseListener NONE = new ParseListener() {
+    };
+
+    default void parseStarted(SubtitleFormat format) {
+    }
+
+    default void sectionStarted(SubtitleFormat format, String section, int lineNumber) {
+    }
+
+    default void sectionFinished(SubtitleFormat format, String section, int lines, int entries, long nanos) {
+    }
+
+    default void anomaly(SubtitleFormat format, int lineNumber, String reason, String line) {
+    }
+
+    default void parseFinished(SubtitleFormat format, long bytes, int lines, int cues, long readNanos, long parseNanos) {
+    }
+
+    default ParseListener andThen(ParseListener next) {
+        Objects.requireNonNull(next);
+        return new CompositeParseListener(this, next);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.killergerbah.jsubtitle;
+
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+import io.github.killergerbah.jsubtitle.util.SymbolTable;
+
+import java.nio.charset.Charset;
+
+public final class ParseOptions {
+
+    public static final ParseOptions DEFAULT = builder().build();
+
+    private final SymbolTable symbolTable;
+    private final boolean lazyEvents;
+    private final Charset charset;
+    private final TimeTransform timeTransform;
+    private final ParseListener listener;
+
+    private ParseOptions(Builder builder) {
+        symbolTable = builder.symbolTable;
+        lazyEvents = builder.lazyEvents;
+        charset = builder.charset;
+        timeTransform = builder.timeTransform;
+        listener = builder.listener;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public SymbolTable getSymbolTable() {
+        return symbolTable;
+    }
+
+    public boolean isLazyEvents() {
+        return lazyEvents;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    public TimeTransform getTimeTransform() {
+        return timeTransform;
+    }
+
+    public ParseListener getListener() {
+        return listener;
+    }
+
+    public static final class Builder {
+
+        private SymbolTable symbolTable;
+        private boolean lazyEvents;
+        private Charset charset;
+        private TimeTransform timeTransform;
+        private ParseListener listener = ParseListener.NONE;
+
+        private Builder() {
+        }
+
+        public Builder symbolTable(SymbolTable symbolTable) {
+            this.symbolTable = symbolTable;
+            return this;
+        }
+
+        public Builder lazyEvents(boolean lazyEvents) {
+            this.lazyEvents = lazyEvents;
+            return this;
+        }
+
+        public Builder charset(Charset charset) {
+            this.charset = charset;
+            return this;
+        }
+
+        public Builder timeTransform(TimeTransform timeTransform) {
+            this.timeTransform = timeTransform;
+            return this;
+        }
+
+        public Builder listener(ParseListener listener) {
+            this.listener = listener == null ? ParseListener.NONE : listener;
+            return this;
+        }
+
+        public ParseOptions build() {
+            return new ParseOptions(this);
+        }
+    }
+}
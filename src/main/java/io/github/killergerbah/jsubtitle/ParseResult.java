@@ -0,0 +1,35 @@
+package io.github.killergerbah.jsubtitle;
+
+import java.util.List;
+
+public final class ParseResult<T> {
+
+    private final T value;
+    private final List<ParseDiagnostic> diagnostics;
+
+    private ParseResult(T value, List<ParseDiagnostic> diagnostics) {
+        this.value = value;
+        this.diagnostics = diagnostics;
+    }
+
+    public static <T> ParseResult<T> of(T value, List<ParseDiagnostic> diagnostics) {
+        return new ParseResult<>(value, List.copyOf(diagnostics));
+    }
+
+    public T getValue() {
+        return value;
+    }
+
+    public List<ParseDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public boolean isClean() {
+        return diagnostics.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ParseResult{value=" + value + ", diagnostics=" + diagnostics + "}";
+    }
+}
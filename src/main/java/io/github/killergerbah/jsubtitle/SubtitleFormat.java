@@ -0,0 +1,30 @@
+package io.github.killergerbah.jsubtitle;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum SubtitleFormat {
+
+    ASS,
+    SRT;
+
+    public static SubtitleFormat fromPath(Path path) {
+        var fileName = path.getFileName();
+
+        if (fileName == null) {
+            return null;
+        }
+
+        var name = fileName.toString().toLowerCase(Locale.ROOT);
+
+        if (name.endsWith(".ass") || name.endsWith(".ssa")) {
+            return ASS;
+        }
+
+        if (name.endsWith(".srt")) {
+            return SRT;
+        }
+
+        return null;
+    }
+}
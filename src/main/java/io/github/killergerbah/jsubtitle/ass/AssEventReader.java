@@ -0,0 +1,189 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.util.LineIterator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class AssEventReader implements Iterator<DialogueEvent>, AutoCloseable {
+
+    private final LineIterator lineIterator;
+    private final Queue<DialogueEvent> pending = new ArrayDeque<>();
+    private final AssFileParser parser;
+    private final boolean sorted;
+
+    private AssFile header;
+    private Iterator<DialogueEvent> sortedEvents;
+    private int lineNumber;
+    private boolean finished;
+
+    private AssEventReader(LineIterator lineIterator, ParseOptions options, boolean sorted) throws IOException {
+        this.lineIterator = lineIterator;
+        this.parser = new AssFileParser(options, pending::add);
+        this.sorted = sorted;
+
+        try {
+            while (!parser.isInEventSection() && !finished) {
+                advance();
+            }
+
+            header = AssFileImpl.from(parser.getSections());
+        } catch (RuntimeException | IOException e) {
+            lineIterator.close();
+            throw e;
+        }
+    }
+
+    public static AssEventReader from(InputStream inputStream) throws IOException {
+        return from(inputStream, false);
+    }
+
+    public static AssEventReader from(InputStream inputStream, boolean sorted) throws IOException {
+        return from(inputStream, ParseOptions.DEFAULT, sorted);
+    }
+
+    public static AssEventReader from(InputStream inputStream, ParseOptions options) throws IOException {
+        return from(inputStream, options, false);
+    }
+
+    public static AssEventReader from(InputStream inputStream, ParseOptions options, boolean sorted) throws IOException {
+        return new AssEventReader(LineIterator.from(inputStream, options.getCharset()), options, sorted);
+    }
+
+    public static AssEventReader from(byte[] bytes) throws IOException {
+        return from(bytes, false);
+    }
+
+    public static AssEventReader from(byte[] bytes, boolean sorted) throws IOException {
+        return from(bytes, ParseOptions.DEFAULT, sorted);
+    }
+
+    public static AssEventReader from(byte[] bytes, ParseOptions options) throws IOException {
+        return from(bytes, options, false);
+    }
+
+    public static AssEventReader from(byte[] bytes, ParseOptions options, boolean sorted) throws IOException {
+        return new AssEventReader(LineIterator.from(bytes, options.getCharset()), options, sorted);
+    }
+
+    public static AssEventReader from(String string) throws IOException {
+        return from(string, false);
+    }
+
+    public static AssEventReader from(String string, boolean sorted) throws IOException {
+        return from(string, ParseOptions.DEFAULT, sorted);
+    }
+
+    public static AssEventReader from(String string, ParseOptions options) throws IOException {
+        return from(string, options, false);
+    }
+
+    public static AssEventReader from(String string, ParseOptions options, boolean sorted) throws IOException {
+        return new AssEventReader(LineIterator.from(string), options, sorted);
+    }
+
+    public static AssEventReader from(File file) throws IOException {
+        return from(file, false);
+    }
+
+    public static AssEventReader from(File file, boolean sorted) throws IOException {
+        return from(file, ParseOptions.DEFAULT, sorted);
+    }
+
+    public static AssEventReader from(File file, ParseOptions options) throws IOException {
+        return from(file, options, false);
+    }
+
+    public static AssEventReader from(File file, ParseOptions options, boolean sorted) throws IOException {
+        return new AssEventReader(LineIterator.from(new FileInputStream(file), options.getCharset()), options, sorted);
+    }
+
+    public ScriptInfoSection getScriptInfoSection() {
+        return header.getScriptInfoSection();
+    }
+
+    public StyleSection getStyleSection() {
+        return header.getStyleSection();
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            if (sorted) {
+                if (sortedEvents == null) {
+                    sortedEvents = sortRemaining();
+                }
+
+                return sortedEvents.hasNext();
+            }
+
+            while (pending.isEmpty() && !finished) {
+                advance();
+            }
+
+            return !pending.isEmpty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public DialogueEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return sorted ? sortedEvents.next() : pending.remove();
+    }
+
+    public Stream<DialogueEvent> stream() {
+        var spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        lineIterator.close();
+    }
+
+    private void advance() throws IOException {
+        if (lineIterator.hasNext()) {
+            parser.consume(lineIterator.next(), lineNumber++);
+        } else {
+            parser.finish();
+            header = AssFileImpl.from(parser.getSections());
+            finished = true;
+        }
+    }
+
+    private Iterator<DialogueEvent> sortRemaining() throws IOException {
+        while (!finished) {
+            advance();
+        }
+
+        var events = new ArrayList<>(pending);
+        pending.clear();
+        EventOrder.sort(events);
+        return events.iterator();
+    }
+}
@@ -0,0 +1,305 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+import io.github.killergerbah.jsubtitle.util.StringColumn;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+public final class AssEventTable implements EventSection {
+
+    private static final byte MARKED = 1;
+
+    private final int size;
+    private final long[] starts;
+    private final long[] ends;
+    private final int[] layers;
+    private final byte[] flags;
+    private final int[] styles;
+    private final int[] styleIndexes;
+    private final int[] names;
+    private final int[] marginLs;
+    private final int[] marginRs;
+    private final int[] marginVs;
+    private final int[] effects;
+    private final String[] symbols;
+    private final StringColumn texts;
+    private final List<DialogueEvent> events = new EventList();
+
+    private AssEventTable(Builder builder) {
+        size = builder.size;
+        starts = Arrays.copyOf(builder.starts, size);
+        ends = Arrays.copyOf(builder.ends, size);
+        layers = Arrays.copyOf(builder.layers, size);
+        flags = Arrays.copyOf(builder.flags, size);
+        styles = Arrays.copyOf(builder.styles, size);
+        styleIndexes = Arrays.copyOf(builder.styleIndexes, size);
+        names = Arrays.copyOf(builder.names, size);
+        marginLs = Arrays.copyOf(builder.marginLs, size);
+        marginRs = Arrays.copyOf(builder.marginRs, size);
+        marginVs = Arrays.copyOf(builder.marginVs, size);
+        effects = Arrays.copyOf(builder.effects, size);
+        symbols = builder.symbols.keySet().toArray(new String[0]);
+
+        for (var entry : builder.symbols.entrySet()) {
+            symbols[entry.getValue()] = entry.getKey();
+        }
+
+        texts = builder.texts;
+        texts.trimToSize();
+    }
+
+    public static AssEventTable of(Iterable<? extends DialogueEvent> events) {
+        return of(events.iterator());
+    }
+
+    public static AssEventTable of(Iterator<? extends DialogueEvent> events) {
+        var builder = new Builder();
+
+        while (events.hasNext()) {
+            builder.add(events.next());
+        }
+
+        return new AssEventTable(builder);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isMarked(int index) {
+        checkIndex(index);
+        return (flags[index] & MARKED) != 0;
+    }
+
+    public int getLayer(int index) {
+        checkIndex(index);
+        return layers[index];
+    }
+
+    public long getStart(int index) {
+        checkIndex(index);
+        return starts[index];
+    }
+
+    public long getEnd(int index) {
+        checkIndex(index);
+        return ends[index];
+    }
+
+    public String getStyle(int index) {
+        checkIndex(index);
+        return symbol(styles[index]);
+    }
+
+    public int getStyleIndex(int index) {
+        checkIndex(index);
+        return styleIndexes[index];
+    }
+
+    public String getName(int index) {
+        checkIndex(index);
+        return symbol(names[index]);
+    }
+
+    public String getMarginL(int index) {
+        checkIndex(index);
+        return symbol(marginLs[index]);
+    }
+
+    public String getMarginR(int index) {
+        checkIndex(index);
+        return symbol(marginRs[index]);
+    }
+
+    public String getMarginV(int index) {
+        checkIndex(index);
+        return symbol(marginVs[index]);
+    }
+
+    public String getEffect(int index) {
+        checkIndex(index);
+        return symbol(effects[index]);
+    }
+
+    public String getText(int index) {
+        checkIndex(index);
+        return texts.get(index);
+    }
+
+    public void retime(TimeTransform transform) {
+        transform.apply(starts, 0, size);
+        transform.apply(ends, 0, size);
+    }
+
+    public DialogueEvent get(int index) {
+        checkIndex(index);
+        return new EventView(this, index);
+    }
+
+    public List<DialogueEvent> asList() {
+        return events;
+    }
+
+    @Override
+    public List<DialogueEvent> getEvents() {
+        return events;
+    }
+
+    private String symbol(int symbol) {
+        return symbol == -1 ? null : symbols[symbol];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private static final class Builder {
+
+        private final Map<String, Integer> symbols = new HashMap<>();
+        private final StringColumn texts = new StringColumn();
+
+        private int size;
+        private long[] starts = new long[16];
+        private long[] ends = new long[16];
+        private int[] layers = new int[16];
+        private byte[] flags = new byte[16];
+        private int[] styles = new int[16];
+        private int[] styleIndexes = new int[16];
+        private int[] names = new int[16];
+        private int[] marginLs = new int[16];
+        private int[] marginRs = new int[16];
+        private int[] marginVs = new int[16];
+        private int[] effects = new int[16];
+
+        void add(DialogueEvent event) {
+            if (size == starts.length) {
+                int capacity = size * 2;
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+                layers = Arrays.copyOf(layers, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                styles = Arrays.copyOf(styles, capacity);
+                styleIndexes = Arrays.copyOf(styleIndexes, capacity);
+                names = Arrays.copyOf(names, capacity);
+                marginLs = Arrays.copyOf(marginLs, capacity);
+                marginRs = Arrays.copyOf(marginRs, capacity);
+                marginVs = Arrays.copyOf(marginVs, capacity);
+                effects = Arrays.copyOf(effects, capacity);
+            }
+
+            starts[size] = event.getStart();
+            ends[size] = event.getEnd();
+            layers[size] = event.getLayer();
+            flags[size] = event.isMarked() ? MARKED : 0;
+            styles[size] = symbol(event.getStyle());
+            styleIndexes[size] = event.getStyleIndex();
+            names[size] = symbol(event.getName());
+            marginLs[size] = symbol(event.getMarginL());
+            marginRs[size] = symbol(event.getMarginR());
+            marginVs[size] = symbol(event.getMarginV());
+            effects[size] = symbol(event.getEffect());
+            texts.add(event.getText());
+            ++size;
+        }
+
+        private int symbol(String value) {
+            if (value == null) {
+                return -1;
+            }
+
+            return symbols.computeIfAbsent(value, v -> symbols.size());
+        }
+    }
+
+    private final class EventList extends AbstractList<DialogueEvent> implements RandomAccess {
+
+        @Override
+        public DialogueEvent get(int index) {
+            return AssEventTable.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class EventView implements DialogueEvent {
+
+        private final AssEventTable table;
+        private final int index;
+
+        EventView(AssEventTable table, int index) {
+            this.table = table;
+            this.index = index;
+        }
+
+        @Override
+        public boolean isMarked() {
+            return (table.flags[index] & MARKED) != 0;
+        }
+
+        @Override
+        public int getLayer() {
+            return table.layers[index];
+        }
+
+        @Override
+        public long getStart() {
+            return table.starts[index];
+        }
+
+        @Override
+        public long getEnd() {
+            return table.ends[index];
+        }
+
+        @Override
+        public String getStyle() {
+            return table.symbol(table.styles[index]);
+        }
+
+        @Override
+        public int getStyleIndex() {
+            return table.styleIndexes[index];
+        }
+
+        @Override
+        public String getName() {
+            return table.symbol(table.names[index]);
+        }
+
+        @Override
+        public String getMarginL() {
+            return table.symbol(table.marginLs[index]);
+        }
+
+        @Override
+        public String getMarginR() {
+            return table.symbol(table.marginRs[index]);
+        }
+
+        @Override
+        public String getMarginV() {
+            return table.symbol(table.marginVs[index]);
+        }
+
+        @Override
+        public String getEffect() {
+            return table.symbol(table.effects[index]);
+        }
+
+        @Override
+        public String getText() {
+            return table.texts.get(index);
+        }
+    }
+}
@@ -1,40 +1,142 @@
 package io.github.killergerbah.jsubtitle.ass;
 
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.ParseListener;
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.ParseResult;
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.util.Charsets;
 import io.github.killergerbah.jsubtitle.util.LineIterator;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
 
 public interface AssFile {
 
     static AssFile read(InputStream inputStream) throws IOException {
-        try (var lineIterator = LineIterator.from(inputStream)) {
-            return read(lineIterator);
+        return read(inputStream, ParseOptions.DEFAULT);
+    }
+
+    static AssFile read(InputStream inputStream, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(inputStream, options.getCharset())) {
+            return read(lineIterator, options);
         }
     }
 
     static AssFile read(byte[] bytes) throws IOException {
-        try (var lineIterator = LineIterator.from(bytes)) {
-            return read(lineIterator);
+        return read(bytes, ParseOptions.DEFAULT);
+    }
+
+    static AssFile read(byte[] bytes, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(bytes, options.getCharset())) {
+            return read(lineIterator, options);
         }
     }
 
     static AssFile read(String string) throws IOException {
+        return read(string, ParseOptions.DEFAULT);
+    }
+
+    static AssFile read(String string, ParseOptions options) throws IOException {
         try (var lineIterator = LineIterator.from(string)) {
-            return read(lineIterator);
+            return read(lineIterator, options);
         }
     }
 
     static AssFile read(File file) throws IOException {
-        try (var lineIterator = LineIterator.from(new FileInputStream(file))) {
-            return read(lineIterator);
+        return read(file, ParseOptions.DEFAULT);
+    }
+
+    static AssFile read(File file, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(new FileInputStream(file), options.getCharset())) {
+            return read(lineIterator, options);
+        }
+    }
+
+    static ParseResult<AssFile> readLenient(InputStream inputStream) throws IOException {
+        return readLenient(inputStream, ParseOptions.DEFAULT);
+    }
+
+    static ParseResult<AssFile> readLenient(InputStream inputStream, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(inputStream, options.getCharset())) {
+            return readLenient(lineIterator, options);
+        }
+    }
+
+    static ParseResult<AssFile> readLenient(byte[] bytes) throws IOException {
+        return readLenient(bytes, ParseOptions.DEFAULT);
+    }
+
+    static ParseResult<AssFile> readLenient(byte[] bytes, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(bytes, options.getCharset())) {
+            return readLenient(lineIterator, options);
+        }
+    }
+
+    static ParseResult<AssFile> readLenient(String string) throws IOException {
+        return readLenient(string, ParseOptions.DEFAULT);
+    }
+
+    static ParseResult<AssFile> readLenient(String string, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(string)) {
+            return readLenient(lineIterator, options);
+        }
+    }
+
+    static ParseResult<AssFile> readLenient(File file) throws IOException {
+        return readLenient(file, ParseOptions.DEFAULT);
+    }
+
+    static ParseResult<AssFile> readLenient(File file, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(new FileInputStream(file), options.getCharset())) {
+            return readLenient(lineIterator, options);
         }
     }
 
-    private static AssFile read(LineIterator lineIterator) throws IOException {
-        var parser = new AssFileParser();
+    static AssFile readParallel(byte[] bytes) {
+        return readParallel(bytes, ForkJoinPool.commonPool());
+    }
+
+    static AssFile readParallel(byte[] bytes, ForkJoinPool pool) {
+        return readParallel(bytes, ParseOptions.DEFAULT, pool);
+    }
+
+    static AssFile readParallel(byte[] bytes, ParseOptions options, ForkJoinPool pool) {
+        return ParallelEventParser.read(Charsets.toUtf8(bytes, options.getCharset()), options, pool);
+    }
+
+    static AssFile readParallel(File file) throws IOException {
+        return readParallel(file, ForkJoinPool.commonPool());
+    }
+
+    static AssFile readParallel(File file, ForkJoinPool pool) throws IOException {
+        return readParallel(file, ParseOptions.DEFAULT, pool);
+    }
+
+    static AssFile readParallel(File file, ParseOptions options, ForkJoinPool pool) throws IOException {
+        return readParallel(Files.readAllBytes(file.toPath()), options, pool);
+    }
+
+    private static AssFile read(LineIterator lineIterator, ParseOptions options) throws IOException {
+        return read(lineIterator, new AssFileParser(options), options.getListener());
+    }
+
+    private static ParseResult<AssFile> readLenient(LineIterator lineIterator, ParseOptions options) throws IOException {
+        var diagnostics = new ArrayList<ParseDiagnostic>();
+        var file = read(lineIterator, new AssFileParser(options, null, diagnostics), options.getListener());
+        return ParseResult.of(file, diagnostics);
+    }
+
+    private static AssFile read(LineIterator lineIterator, AssFileParser parser, ParseListener listener) throws IOException {
+        if (listener != ParseListener.NONE) {
+            return readInstrumented(lineIterator, parser, listener);
+        }
+
         int lineNumber = 0;
 
         while (lineIterator.hasNext()) {
@@ -44,34 +146,38 @@ public interface AssFile {
 
         parser.finish();
 
-        var sections = parser.getSections();
-        ScriptInfoSection scriptInfoSection = null;
-        StyleSection styleSection = null;
-        EventSection eventSection = null;
-
-        for (var s : sections) {
-            if (s instanceof ScriptInfoSection) {
-                if (scriptInfoSection == null) {
-                    scriptInfoSection = (ScriptInfoSection)s;
-                } else {
-                    throw new AssParseException("Too many script info sections");
-                }
-            } else if (s instanceof StyleSection) {
-                if (styleSection == null) {
-                    styleSection = (StyleSection)s;
-                } else {
-                    throw new AssParseException("Too many style sections");
-                }
-            } else if (s instanceof EventSection) {
-                if (eventSection == null) {
-                    eventSection = (EventSection)s;
-                } else {
-                    throw new AssParseException("Too many event sections");
-                }
+        return AssFileImpl.from(parser.getSections());
+    }
+
+    private static AssFile readInstrumented(LineIterator lineIterator, AssFileParser parser, ParseListener listener) throws IOException {
+        listener.parseStarted(SubtitleFormat.ASS);
+        long readNanos = 0;
+        long parseNanos = 0;
+        int lineNumber = 0;
+
+        while (true) {
+            long start = System.nanoTime();
+            boolean hasNext = lineIterator.hasNext();
+            var line = hasNext ? lineIterator.next() : null;
+            long read = System.nanoTime();
+            readNanos += read - start;
+
+            if (!hasNext) {
+                break;
             }
+
+            parser.consume(line, lineNumber++);
+            parseNanos += System.nanoTime() - read;
         }
 
-        return new AssFileImpl(scriptInfoSection, styleSection, eventSection);
+        long start = System.nanoTime();
+        parser.finish();
+        var file = AssFileImpl.from(parser.getSections());
+        parseNanos += System.nanoTime() - start;
+
+        int events = file.getEventSection() == null ? 0 : file.getEventSection().getEvents().size();
+        listener.parseFinished(SubtitleFormat.ASS, lineIterator.getBytesRead(), lineNumber, events, readNanos, parseNanos);
+        return file;
     }
 
     ScriptInfoSection getScriptInfoSection();
@@ -1,5 +1,7 @@
 package io.github.killergerbah.jsubtitle.ass;
 
+import java.util.List;
+
 final class AssFileImpl implements AssFile {
 
     private final ScriptInfoSection scriptInfoSection;
@@ -12,6 +14,36 @@ final class AssFileImpl implements AssFile {
         this.eventSection = eventSection;
     }
 
+    static AssFileImpl from(List<AssFileSection> sections) {
+        ScriptInfoSection scriptInfoSection = null;
+        StyleSection styleSection = null;
+        EventSection eventSection = null;
+
+        for (var s : sections) {
+            if (s instanceof ScriptInfoSection) {
+                if (scriptInfoSection == null) {
+                    scriptInfoSection = (ScriptInfoSection)s;
+                } else {
+                    throw new AssParseException("Too many script info sections");
+                }
+            } else if (s instanceof StyleSection) {
+                if (styleSection == null) {
+                    styleSection = (StyleSection)s;
+                } else {
+                    throw new AssParseException("Too many style sections");
+                }
+            } else if (s instanceof EventSection) {
+                if (eventSection == null) {
+                    eventSection = (EventSection)s;
+                } else {
+                    throw new AssParseException("Too many event sections");
+                }
+            }
+        }
+
+        return new AssFileImpl(scriptInfoSection, styleSection, eventSection);
+    }
+
     @Override
     public ScriptInfoSection getScriptInfoSection() {
         return scriptInfoSection;
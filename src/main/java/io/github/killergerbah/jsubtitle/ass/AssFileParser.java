@@ -1,40 +1,152 @@
 package io.github.killergerbah.jsubtitle.ass;
 
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.ParseListener;
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+import io.github.killergerbah.jsubtitle.util.SymbolTable;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 
 final class AssFileParser {
 
     private static final Pattern GARBAGE_SECTION_PATTERN = Pattern.compile("\\[.+\\]");
+    private static final String[] OTHER_EVENT_TYPES = {"Comment", "Picture", "Sound", "Movie", "Command"};
+    private static final Set<String> SKIPPED_SECTIONS = Set.of("[Fonts]", "[Graphics]", "[Aegisub Project Garbage]", "[Aegisub Extradata]");
 
     private final List<AssFileSection> sections = new ArrayList<>();
+    private final Consumer<DialogueEvent> eventConsumer;
+    private final SymbolTable symbols;
+    private final boolean lazyEvents;
+    private final TimeTransform timeTransform;
+    private final ParseListener listener;
+    private final boolean instrumented;
+    private final List<ParseDiagnostic> diagnostics;
 
     private AssFileSectionParser current;
+    private String sectionName;
+    private int sectionLines;
+    private long sectionStart;
+    private int lineNumber;
+
+    AssFileParser() {
+        this(ParseOptions.DEFAULT);
+    }
+
+    AssFileParser(ParseOptions options) {
+        this(options, null);
+    }
+
+    AssFileParser(ParseOptions options, Consumer<DialogueEvent> eventConsumer) {
+        this(options, eventConsumer, null);
+    }
+
+    AssFileParser(ParseOptions options, Consumer<DialogueEvent> eventConsumer, List<ParseDiagnostic> diagnostics) {
+        this.eventConsumer = eventConsumer;
+        this.diagnostics = diagnostics;
+        symbols = options.getSymbolTable() == null ? new SymbolTable() : options.getSymbolTable();
+        lazyEvents = options.isLazyEvents();
+        timeTransform = options.getTimeTransform();
+        listener = options.getListener();
+        instrumented = listener != ParseListener.NONE;
+    }
 
     void consume(String line, int lineNumber) {
+        this.lineNumber = lineNumber;
+
         if (current == null) {
-            current = detectSection(line, lineNumber);
+            startSection(line, lineNumber);
             return;
         }
 
-        if (current.consume(line)) {
+        boolean consumed;
+
+        try {
+            consumed = current.consume(line);
+        } catch (RuntimeException e) {
+            if (diagnostics == null) {
+                throw e;
+            }
+
+            diagnostic(ParseDiagnostic.of(lineNumber, e, line));
             return;
         }
 
-        current.finish();
-        sections.add((AssFileSection) current);
-        current = detectSection(line, lineNumber);
+        if (consumed) {
+            ++sectionLines;
+            return;
+        }
+
+        if (diagnostics != null && !isSectionBoundary(line)) {
+            diagnostic(ParseDiagnostic.of(lineNumber, "Unexpected line in section", line));
+            return;
+        }
+
+        finishSection();
+        startSection(line, lineNumber);
     }
 
     void finish() {
+        if (current == null) {
+            return;
+        }
+
+        finishSection();
+    }
+
+    private void startSection(String line, int lineNumber) {
+        try {
+            current = detectSection(line, lineNumber);
+        } catch (AssParseException e) {
+            if (diagnostics == null) {
+                throw e;
+            }
+
+            current = null;
+            diagnostic(ParseDiagnostic.of(lineNumber, "Line outside of any section", line));
+            return;
+        }
+
+        sectionLines = 1;
+        sectionName = current instanceof EmptySectionParser ? null : line.trim();
+
+        if (instrumented && sectionName != null) {
+            sectionName = sectionName.substring(1, sectionName.length() - 1);
+            sectionStart = System.nanoTime();
+            listener.sectionStarted(SubtitleFormat.ASS, sectionName, lineNumber);
+        }
+    }
+
+    private void finishSection() {
         current.finish();
         sections.add((AssFileSection) current);
+
+        if (instrumented && sectionName != null) {
+            listener.sectionFinished(SubtitleFormat.ASS, sectionName, sectionLines, current.getEntryCount(), System.nanoTime() - sectionStart);
+        }
+    }
+
+    private void anomaly(String reason, String line) {
+        listener.anomaly(SubtitleFormat.ASS, lineNumber, reason, line);
+    }
+
+    private void diagnostic(ParseDiagnostic diagnostic) {
+        diagnostics.add(diagnostic);
+        listener.anomaly(SubtitleFormat.ASS, diagnostic.getLineNumber(), diagnostic.getReason(), diagnostic.getLine());
+    }
+
+    private static boolean isSectionBoundary(String line) {
+        var trimmed = line.trim();
+        return trimmed.isEmpty() || trimmed.startsWith("[");
     }
 
     private AssFileSectionParser detectSection(String line, int lineNumber) {
@@ -49,30 +161,64 @@ final class AssFileParser {
         }
 
         if (trimmed.equals("[V4+ Styles]")) {
-            return new StyleSectionParser();
+            return new StyleSectionParser(this::anomaly);
         }
 
         if (trimmed.equals("[Events]")) {
-            return new EventSectionParser();
+            return new EventSectionParser(eventConsumer, symbols, lazyEvents, timeTransform, styles(), this::anomaly);
         }
 
         if (GARBAGE_SECTION_PATTERN.matcher(trimmed).matches()) {
+            if (!SKIPPED_SECTIONS.contains(trimmed)) {
+                anomaly("Skipped unrecognized section", line);
+            }
+
             return new GarbageSectionParser();
         }
 
         throw new AssParseException("Unrecognized section at line " + lineNumber + ":\n" + line);
     }
 
+    private StyleTable styles() {
+        for (var section : sections) {
+            if (section instanceof StyleSection) {
+                return ((StyleSection) section).getStyles();
+            }
+        }
+
+        return null;
+    }
+
     List<AssFileSection> getSections() {
         return sections;
     }
 
+    boolean isInEventSection() {
+        return current instanceof EventSectionParser;
+    }
+
+    EventFormat getEventFormat() {
+        return isInEventSection() ? ((EventSectionParser) current).format : null;
+    }
+
+    void addEvents(List<Event> events) {
+        var eventSectionParser = (EventSectionParser) current;
+
+        for (var event : events) {
+            eventSectionParser.add(event);
+        }
+    }
+
     private interface AssFileSectionParser {
 
         boolean consume(String line);
 
         default void finish() {
         }
+
+        default int getEntryCount() {
+            return 0;
+        }
     }
 
     private static final class EmptySectionParser implements AssFileSectionParser, AssFileSection {
@@ -115,6 +261,7 @@ final class AssFileParser {
 
         private final List<String> comments = new ArrayList<>();
 
+        private int entryCount;
         private String title;
         private String originalScript;
         private String originalTranslation;
@@ -150,12 +297,18 @@ final class AssFileParser {
                 mutator.accept(this, value.trim());
             }
 
+            ++entryCount;
             return true;
         }
 
+        @Override
+        public int getEntryCount() {
+            return entryCount;
+        }
+
         @Override
         public List<String> getComments() {
-            return comments;
+            return Collections.unmodifiableList(comments);
         }
 
         @Override
@@ -232,38 +385,262 @@ final class AssFileParser {
 
     private static final class StyleSectionParser implements AssFileSectionParser, StyleSection {
 
-        private static final Map<String, BiConsumer<StyleSectionParser, String>> MUTATORS;
+        private static final int NAME = 0;
+        private static final int FONT_NAME = 1;
+        private static final int FONT_SIZE = 2;
+        private static final int PRIMARY_COLOR = 3;
+        private static final int SECONDARY_COLOR = 4;
+        private static final int OUTLINE_COLOR = 5;
+        private static final int BACK_COLOR = 6;
+        private static final int BOLD = 7;
+        private static final int ITALIC = 8;
+        private static final int UNDERLINE = 9;
+        private static final int STRIKE_OUT = 10;
+        private static final int SCALE_X = 11;
+        private static final int SCALE_Y = 12;
+        private static final int SPACING = 13;
+        private static final int ANGLE = 14;
+        private static final int BORDER_STYLE = 15;
+        private static final int OUTLINE = 16;
+        private static final int SHADOW = 17;
+        private static final int ALIGNMENT = 18;
+        private static final int MARGIN_L = 19;
+        private static final int MARGIN_R = 20;
+        private static final int MARGIN_V = 21;
+        private static final int ALPHA_LEVEL = 22;
+        private static final int ENCODING = 23;
+
+        private static final Map<String, Integer> COLUMNS;
 
         static {
-            MUTATORS = new HashMap<>(25);
-            MUTATORS.put("Name", (parser, value) -> parser.name = value);
-            MUTATORS.put("Fontname", (parser, value) -> parser.fontName = value);
-            MUTATORS.put("Fontsize", (parser, value) -> parser.fontSize = Double.parseDouble(value));
-            MUTATORS.put("PrimaryColour", (parser, value) -> parser.primaryColor = value);
-            MUTATORS.put("SecondaryColour", (parser, value) -> parser.secondaryColor = value);
-            MUTATORS.put("TertiaryColour", (parser, value) -> parser.outlineColor = value);
-            MUTATORS.put("OutlineColour", (parser, value) -> parser.outlineColor = value);
-            MUTATORS.put("BackColour", (parser, value) -> parser.backColor = value);
-            MUTATORS.put("Bold", (parser, value) -> parser.bold = Parse.bool(value));
-            MUTATORS.put("Italic", (parser, value) -> parser.italic = Parse.bool(value));
-            MUTATORS.put("Underline", (parser, value) -> parser.underline = Parse.bool(value));
-            MUTATORS.put("StrikeOut", (parser, value) -> parser.strikeOut = Parse.bool(value));
-            MUTATORS.put("ScaleX", (parser, value) -> parser.scaleX = Parse.decimal(value));
-            MUTATORS.put("ScaleY", (parser, value) -> parser.scaleY = Parse.decimal(value));
-            MUTATORS.put("Spacing", (parser, value) -> parser.spacing = Parse.decimal(value));
-            MUTATORS.put("Angle", (parser, value) -> parser.angle = Parse.decimal(value));
-            MUTATORS.put("BorderStyle", (parser, value) -> parser.borderStyle = Integer.parseInt(value));
-            MUTATORS.put("Outline", (parser, value) -> parser.outline = Parse.decimal(value));
-            MUTATORS.put("Shadow", (parser, value) -> parser.shadow = Parse.decimal(value));
-            MUTATORS.put("Alignment", (parser, value) -> parser.alignment = Integer.parseInt(value));
-            MUTATORS.put("MarginL", (parser, value) -> parser.marginL = Integer.parseInt(value));
-            MUTATORS.put("MarginR", (parser, value) -> parser.marginR = Integer.parseInt(value));
-            MUTATORS.put("MarginV", (parser, value) -> parser.marginV = Integer.parseInt(value));
-            MUTATORS.put("AlphaLevel", (parser, value) -> parser.alphaLevel = Integer.parseInt(value));
-            MUTATORS.put("Encoding", (parser, value) -> parser.encoding = Integer.parseInt(value));
-        }
-
-        private String[] format;
+            COLUMNS = new HashMap<>(25);
+            COLUMNS.put("Name", NAME);
+            COLUMNS.put("Fontname", FONT_NAME);
+            COLUMNS.put("Fontsize", FONT_SIZE);
+            COLUMNS.put("PrimaryColour", PRIMARY_COLOR);
+            COLUMNS.put("SecondaryColour", SECONDARY_COLOR);
+            COLUMNS.put("OutlineColour", OUTLINE_COLOR);
+            COLUMNS.put("BackColour", BACK_COLOR);
+            COLUMNS.put("Bold", BOLD);
+            COLUMNS.put("Italic", ITALIC);
+            COLUMNS.put("Underline", UNDERLINE);
+            COLUMNS.put("StrikeOut", STRIKE_OUT);
+            COLUMNS.put("ScaleX", SCALE_X);
+            COLUMNS.put("ScaleY", SCALE_Y);
+            COLUMNS.put("Spacing", SPACING);
+            COLUMNS.put("Angle", ANGLE);
+            COLUMNS.put("BorderStyle", BORDER_STYLE);
+            COLUMNS.put("Outline", OUTLINE);
+            COLUMNS.put("Shadow", SHADOW);
+            COLUMNS.put("Alignment", ALIGNMENT);
+            COLUMNS.put("MarginL", MARGIN_L);
+            COLUMNS.put("MarginR", MARGIN_R);
+            COLUMNS.put("MarginV", MARGIN_V);
+            COLUMNS.put("AlphaLevel", ALPHA_LEVEL);
+            COLUMNS.put("Encoding", ENCODING);
+            COLUMNS.put("TertiaryColour", OUTLINE_COLOR);
+        }
+
+        private final BiConsumer<String, String> anomalies;
+        private final StyleTable.Builder styles = StyleTable.builder();
+
+        private StyleTable table;
+        private int entryCount;
+        private int[] columns;
+        private StyleLine last = new StyleLine();
+
+        StyleSectionParser(BiConsumer<String, String> anomalies) {
+            this.anomalies = anomalies;
+        }
+
+        @Override
+        public boolean consume(String line) {
+            var tokens = line.split(":");
+            if (tokens.length != 2) {
+                return false;
+            }
+
+            var field = tokens[0];
+            var value = tokens[1];
+
+            if (field.equals("Format")) {
+                var format = Parse.format(value);
+                columns = columns(format);
+
+                for (int i = 0; i < columns.length; ++i) {
+                    if (columns[i] == -1) {
+                        anomalies.accept("Unknown style format column: " + format[i], line);
+                    }
+                }
+
+                return true;
+            }
+
+            if (field.equals("Style")) {
+                ++entryCount;
+                var styleValues = value.split(",");
+                var style = new StyleLine();
+
+                for (int i = 0; i < styleValues.length; ++i) {
+                    style.set(columns[i], styleValues[i].trim());
+                }
+
+                styles.add(style);
+                last = style;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public void finish() {
+            table = styles.build();
+        }
+
+        @Override
+        public StyleTable getStyles() {
+            return table == null ? styles.build() : table;
+        }
+
+        @Override
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        private static int[] columns(String[] format) {
+            var columns = new int[format.length];
+
+            for (int i = 0; i < format.length; ++i) {
+                columns[i] = COLUMNS.getOrDefault(format[i], -1);
+            }
+
+            return columns;
+        }
+
+        @Override
+        public String getName() {
+            return last.getName();
+        }
+
+        @Override
+        public String getFontName() {
+            return last.getFontName();
+        }
+
+        @Override
+        public double getFontSize() {
+            return last.getFontSize();
+        }
+
+        @Override
+        public String getPrimaryColor() {
+            return last.getPrimaryColor();
+        }
+
+        @Override
+        public String getSecondaryColor() {
+            return last.getSecondaryColor();
+        }
+
+        @Override
+        public String getOutlineColor() {
+            return last.getOutlineColor();
+        }
+
+        @Override
+        public String getBackColor() {
+            return last.getBackColor();
+        }
+
+        @Override
+        public boolean isBold() {
+            return last.isBold();
+        }
+
+        @Override
+        public boolean isItalic() {
+            return last.isItalic();
+        }
+
+        @Override
+        public boolean isUnderline() {
+            return last.isUnderline();
+        }
+
+        @Override
+        public boolean isStrikeOut() {
+            return last.isStrikeOut();
+        }
+
+        @Override
+        public double getScaleX() {
+            return last.getScaleX();
+        }
+
+        @Override
+        public double getScaleY() {
+            return last.getScaleY();
+        }
+
+        @Override
+        public double getSpacing() {
+            return last.getSpacing();
+        }
+
+        @Override
+        public double getAngle() {
+            return last.getAngle();
+        }
+
+        @Override
+        public int getBorderStyle() {
+            return last.getBorderStyle();
+        }
+
+        @Override
+        public double getOutline() {
+            return last.getOutline();
+        }
+
+        @Override
+        public double getShadow() {
+            return last.getShadow();
+        }
+
+        @Override
+        public int getAlignment() {
+            return last.getAlignment();
+        }
+
+        @Override
+        public int getMarginL() {
+            return last.getMarginL();
+        }
+
+        @Override
+        public int getMarginR() {
+            return last.getMarginR();
+        }
+
+        @Override
+        public int getMarginV() {
+            return last.getMarginV();
+        }
+
+        @Override
+        public int getAlphaLevel() {
+            return last.getAlphaLevel();
+        }
+
+        @Override
+        public int getEncoding() {
+            return last.getEncoding();
+        }
+    }
+
+    private static final class StyleLine implements Style {
+
         private String name;
         private String fontName;
         private double fontSize;
@@ -289,38 +666,81 @@ final class AssFileParser {
         private int alphaLevel;
         private int encoding;
 
-        @Override
-        public boolean consume(String line) {
-            var tokens = line.split(":");
-            if (tokens.length != 2) {
-                return false;
-            }
-
-            var field = tokens[0];
-            var value = tokens[1];
-
-            if (field.equals("Format")) {
-                format = Parse.format(value);
-                return true;
-            }
-
-            if (field.equals("Style")) {
-                var styleValues = value.split(",");
-
-                for (int i = 0; i < styleValues.length; ++i) {
-                    var styleField = format[i];
-                    var styleValue = styleValues[i].trim();
-                    var mutator = MUTATORS.get(styleField);
-
-                    if (mutator != null) {
-                        mutator.accept(this, styleValue);
-                    }
-                }
-
-                return true;
+        void set(int column, String value) {
+            switch (column) {
+                case StyleSectionParser.NAME:
+                    name = value;
+                    break;
+                case StyleSectionParser.FONT_NAME:
+                    fontName = value;
+                    break;
+                case StyleSectionParser.FONT_SIZE:
+                    fontSize = Double.parseDouble(value);
+                    break;
+                case StyleSectionParser.PRIMARY_COLOR:
+                    primaryColor = value;
+                    break;
+                case StyleSectionParser.SECONDARY_COLOR:
+                    secondaryColor = value;
+                    break;
+                case StyleSectionParser.OUTLINE_COLOR:
+                    outlineColor = value;
+                    break;
+                case StyleSectionParser.BACK_COLOR:
+                    backColor = value;
+                    break;
+                case StyleSectionParser.BOLD:
+                    bold = Parse.bool(value);
+                    break;
+                case StyleSectionParser.ITALIC:
+                    italic = Parse.bool(value);
+                    break;
+                case StyleSectionParser.UNDERLINE:
+                    underline = Parse.bool(value);
+                    break;
+                case StyleSectionParser.STRIKE_OUT:
+                    strikeOut = Parse.bool(value);
+                    break;
+                case StyleSectionParser.SCALE_X:
+                    scaleX = Parse.decimal(value);
+                    break;
+                case StyleSectionParser.SCALE_Y:
+                    scaleY = Parse.decimal(value);
+                    break;
+                case StyleSectionParser.SPACING:
+                    spacing = Parse.decimal(value);
+                    break;
+                case StyleSectionParser.ANGLE:
+                    angle = Parse.decimal(value);
+                    break;
+                case StyleSectionParser.BORDER_STYLE:
+                    borderStyle = Integer.parseInt(value);
+                    break;
+                case StyleSectionParser.OUTLINE:
+                    outline = Parse.decimal(value);
+                    break;
+                case StyleSectionParser.SHADOW:
+                    shadow = Parse.decimal(value);
+                    break;
+                case StyleSectionParser.ALIGNMENT:
+                    alignment = Integer.parseInt(value);
+                    break;
+                case StyleSectionParser.MARGIN_L:
+                    marginL = Integer.parseInt(value);
+                    break;
+                case StyleSectionParser.MARGIN_R:
+                    marginR = Integer.parseInt(value);
+                    break;
+                case StyleSectionParser.MARGIN_V:
+                    marginV = Integer.parseInt(value);
+                    break;
+                case StyleSectionParser.ALPHA_LEVEL:
+                    alphaLevel = Integer.parseInt(value);
+                    break;
+                case StyleSectionParser.ENCODING:
+                    encoding = Integer.parseInt(value);
+                    break;
             }
-
-            return false;
         }
 
         @Override
@@ -446,67 +866,96 @@ final class AssFileParser {
 
     private static final class EventSectionParser implements AssFileSectionParser, EventSection {
 
-        private static final Map<String, BiConsumer<Event, String>> MUTATORS;
+        private final Consumer<DialogueEvent> eventConsumer;
+        private final SymbolTable symbols;
+        private final boolean lazy;
+        private final TimeTransform timeTransform;
+        private final StyleTable styles;
+        private final BiConsumer<String, String> anomalies;
 
-        static {
-            MUTATORS = new HashMap<>(11);
-            MUTATORS.put("Marked", (parser, value) -> parser.marked = Parse.bool(value));
-            MUTATORS.put("Layer", (parser, value) -> parser.layer = Integer.parseInt(value.trim()));
-            MUTATORS.put("Start", (parser, value) -> parser.start = Parse.time(value));
-            MUTATORS.put("End", (parser, value) -> parser.end = Parse.time(value));
-            MUTATORS.put("Style", (parser, value) -> parser.style = value);
-            MUTATORS.put("Name", (parser, value) -> parser.name = value);
-            MUTATORS.put("MarginL", (parser, value) -> parser.marginL = value);
-            MUTATORS.put("MarginR", (parser, value) -> parser.marginR = value);
-            MUTATORS.put("MarginV", (parser, value) -> parser.marginV = value);
-            MUTATORS.put("Effect", (parser, value) -> parser.effect = value);
-            MUTATORS.put("Text", (parser, value) -> parser.text = value);
-        }
+        private List<DialogueEvent> events = new ArrayList<>();
+        private boolean ordered = true;
+        private int entryCount;
+        private EventFormat format;
 
-        private SortedSet<Event> sortedEvents = new TreeSet<>();
-        private List<DialogueEvent> events;
-        private String[] format;
+        EventSectionParser(Consumer<DialogueEvent> eventConsumer, SymbolTable symbols, boolean lazy, TimeTransform timeTransform, StyleTable styles, BiConsumer<String, String> anomalies) {
+            this.eventConsumer = eventConsumer;
+            this.symbols = symbols;
+            this.lazy = lazy;
+            this.timeTransform = timeTransform;
+            this.styles = styles;
+            this.anomalies = anomalies;
+        }
 
         @Override
         public boolean consume(String line) {
-            var tokens = line.split(":", 2);
+            int colon = line.indexOf(':');
 
-            if (tokens.length != 2) {
+            if (colon == -1) {
                 return "".equals(line.trim());
             }
 
-            var field = tokens[0];
-            var value = tokens[1];
+            if (colon == 6 && line.startsWith("Format")) {
+                var fields = Parse.format(line.substring(colon + 1));
+                format = new EventFormat(fields, symbols, lazy, timeTransform, styles);
+
+                for (var field : fields) {
+                    if (!EventFormat.COLUMNS.containsKey(field)) {
+                        anomalies.accept("Unknown event format column: " + field, line);
+                    }
+                }
 
-            if (field.equals("Format")) {
-                format = Parse.format(value);
                 return true;
             }
 
-            if (field.equals("Dialogue")) {
-                var event = new Event();
-                var eventValues = value.split(",", format.length);
-
-                for (int i = 0; i < eventValues.length; ++i) {
-                    var eventField = format[i];
-                    var eventValue = eventValues[i];
-                    var mutator = MUTATORS.get(eventField);
-
-                    if (mutator != null) {
-                        mutator.accept(event, eventValue);
-                    }
+            if (colon == 8 && line.startsWith("Dialogue")) {
+                if (format == null) {
+                    throw new AssParseException("Dialogue line before Format line");
                 }
 
-                sortedEvents.add(event);
+                add(format.parse(line, colon + 1));
+            } else if (!isOtherEventType(line, colon)) {
+                anomalies.accept("Ignored unknown event type", line);
             }
 
             return true;
         }
 
+        private static boolean isOtherEventType(String line, int colon) {
+            for (var type : OTHER_EVENT_TYPES) {
+                if (type.length() == colon && line.startsWith(type)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        void add(Event event) {
+            ++entryCount;
+
+            if (eventConsumer == null) {
+                if (ordered && !events.isEmpty()) {
+                    ordered = EventOrder.inOrder(events.get(events.size() - 1), event);
+                }
+
+                events.add(event);
+            } else {
+                eventConsumer.accept(event);
+            }
+        }
+
         @Override
         public void finish() {
-            events = new ArrayList<>(sortedEvents);
-            sortedEvents = null;
+            if (!ordered) {
+                events.sort(EventOrder.COMPARATOR);
+                ordered = true;
+            }
+        }
+
+        @Override
+        public int getEntryCount() {
+            return entryCount;
         }
 
         @Override
@@ -515,27 +964,167 @@ final class AssFileParser {
         }
     }
 
-    private static final class Event implements Comparable<Event>, DialogueEvent {
+    static final class EventFormat {
+
+        private static final int MARKED = 0;
+        private static final int LAYER = 1;
+        private static final int START = 2;
+        private static final int END = 3;
+        private static final int STYLE = 4;
+        private static final int NAME = 5;
+        private static final int MARGIN_L = 6;
+        private static final int MARGIN_R = 7;
+        private static final int MARGIN_V = 8;
+        private static final int EFFECT = 9;
+        private static final int TEXT = 10;
+
+        private static final Map<String, Integer> COLUMNS;
+
+        static {
+            COLUMNS = new HashMap<>(11);
+            COLUMNS.put("Marked", MARKED);
+            COLUMNS.put("Layer", LAYER);
+            COLUMNS.put("Start", START);
+            COLUMNS.put("End", END);
+            COLUMNS.put("Style", STYLE);
+            COLUMNS.put("Name", NAME);
+            COLUMNS.put("MarginL", MARGIN_L);
+            COLUMNS.put("MarginR", MARGIN_R);
+            COLUMNS.put("MarginV", MARGIN_V);
+            COLUMNS.put("Effect", EFFECT);
+            COLUMNS.put("Text", TEXT);
+        }
+
+        private final int[] columns;
+        private final SymbolTable symbols;
+        private final boolean lazy;
+        private final TimeTransform timeTransform;
+        private final StyleTable styles;
+
+        EventFormat(String[] fields, SymbolTable symbols, boolean lazy, TimeTransform timeTransform, StyleTable styles) {
+            columns = new int[fields.length];
+            this.symbols = symbols;
+            this.lazy = lazy;
+            this.timeTransform = timeTransform;
+            this.styles = styles;
+
+            for (int i = 0; i < fields.length; ++i) {
+                columns[i] = COLUMNS.getOrDefault(fields[i], -1);
+            }
+        }
+
+        Event parse(String line, int from) {
+            var event = new Event();
+
+            if (lazy) {
+                event.line = line;
+                event.fieldsFrom = from;
+                event.format = this;
+            }
+
+            apply(event, line, from, true);
+            return event;
+        }
+
+        private void decode(Event event) {
+            apply(event, event.line, event.fieldsFrom, false);
+        }
+
+        private void apply(Event event, String line, int from, boolean eager) {
+            for (int i = 0; i < columns.length; ++i) {
+                int to = i == columns.length - 1 ? -1 : line.indexOf(',', from);
+                boolean last = to == -1;
+
+                if (last) {
+                    to = line.length();
+                }
+
+                int column = columns[i];
+
+                if (!lazy || eager == isEager(column)) {
+                    set(event, column, line, from, to);
+                }
+
+                if (last) {
+                    break;
+                }
+
+                from = to + 1;
+            }
+        }
+
+        private void set(Event event, int column, String line, int from, int to) {
+            switch (column) {
+                case MARKED:
+                    event.marked = Parse.bool(line, from, to);
+                    break;
+                case LAYER:
+                    event.layer = Parse.integer(line, from, to);
+                    break;
+                case START:
+                    event.start = time(line, from, to);
+                    break;
+                case END:
+                    event.end = time(line, from, to);
+                    break;
+                case STYLE:
+                    event.style = symbols.intern(line, from, to);
+                    event.styleIndex = styles == null ? -1 : styles.indexOf(event.style);
+                    break;
+                case NAME:
+                    event.name = symbols.intern(line, from, to);
+                    break;
+                case MARGIN_L:
+                    event.marginL = symbols.intern(line, from, to);
+                    break;
+                case MARGIN_R:
+                    event.marginR = symbols.intern(line, from, to);
+                    break;
+                case MARGIN_V:
+                    event.marginV = symbols.intern(line, from, to);
+                    break;
+                case EFFECT:
+                    event.effect = symbols.intern(line, from, to);
+                    break;
+                case TEXT:
+                    event.text = line.substring(from, to);
+                    break;
+            }
+        }
+
+        private long time(String line, int from, int to) {
+            long time = Parse.time(line, from, to);
+            return timeTransform == null ? time : timeTransform.apply(time);
+        }
+
+        private static boolean isEager(int column) {
+            return column == LAYER || column == START || column == END;
+        }
+    }
+
+    static final class Event implements DialogueEvent {
 
         private boolean marked;
         private int layer;
         private long start;
         private long end;
         private String style;
+        private int styleIndex = -1;
         private String name;
         private String marginL;
         private String marginR;
         private String marginV;
         private String effect;
         private String text;
+        private String plainText;
 
-        @Override
-        public int compareTo(Event o) {
-            return Long.compare(start, o.start);
-        }
+        private String line;
+        private int fieldsFrom;
+        private volatile EventFormat format;
 
         @Override
         public boolean isMarked() {
+            decode();
             return marked;
         }
 
@@ -556,37 +1145,83 @@ final class AssFileParser {
 
         @Override
         public String getStyle() {
+            decode();
             return style;
         }
 
+        @Override
+        public int getStyleIndex() {
+            decode();
+            return styleIndex;
+        }
+
         @Override
         public String getName() {
+            decode();
             return name;
         }
 
         @Override
         public String getMarginL() {
+            decode();
             return marginL;
         }
 
         @Override
         public String getMarginR() {
+            decode();
             return marginR;
         }
 
         @Override
         public String getMarginV() {
+            decode();
             return marginV;
         }
 
         @Override
         public String getEffect() {
+            decode();
             return effect;
         }
 
         @Override
         public String getText() {
+            decode();
             return text;
         }
+
+        @Override
+        public String getPlainText() {
+            decode();
+            var plain = plainText;
+
+            if (plain == null && text != null) {
+                plain = AssTextTokenizer.plainText(text);
+                plainText = plain;
+            }
+
+            return plain;
+        }
+
+        boolean isDecoded() {
+            return format == null;
+        }
+
+        private void decode() {
+            if (format == null) {
+                return;
+            }
+
+            synchronized (this) {
+                var pending = format;
+
+                if (pending != null) {
+                    pending.decode(this);
+                    line = null;
+                    format = null;
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,91 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.util.FileTail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class AssTailReader {
+
+    private final FileTail tail;
+    private final ParseOptions options;
+    private final List<DialogueEvent> polled = new ArrayList<>();
+    private final List<ParseDiagnostic> diagnostics;
+
+    private AssFileParser parser;
+    private int lineNumber;
+
+    private AssTailReader(FileTail tail, ParseOptions options, List<ParseDiagnostic> diagnostics) {
+        this.tail = tail;
+        this.options = options;
+        this.diagnostics = diagnostics;
+        parser = new AssFileParser(options, polled::add, diagnostics);
+    }
+
+    public static AssTailReader from(File file) {
+        return from(file, ParseOptions.DEFAULT);
+    }
+
+    public static AssTailReader from(File file, ParseOptions options) {
+        return new AssTailReader(FileTail.of(file.toPath(), options.getCharset()), options, null);
+    }
+
+    public static AssTailReader fromLenient(File file) {
+        return fromLenient(file, ParseOptions.DEFAULT);
+    }
+
+    public static AssTailReader fromLenient(File file, ParseOptions options) {
+        return new AssTailReader(FileTail.of(file.toPath(), options.getCharset()), options, new ArrayList<>());
+    }
+
+    public long getOffset() {
+        return tail.getOffset();
+    }
+
+    public List<ParseDiagnostic> getDiagnostics() {
+        return diagnostics == null ? List.of() : Collections.unmodifiableList(diagnostics);
+    }
+
+    public ScriptInfoSection getScriptInfoSection() {
+        return AssFileImpl.from(parser.getSections()).getScriptInfoSection();
+    }
+
+    public StyleSection getStyleSection() {
+        return AssFileImpl.from(parser.getSections()).getStyleSection();
+    }
+
+    public List<DialogueEvent> poll() throws IOException {
+        tail.poll(this::reset, line -> parser.consume(line, lineNumber++));
+        return drain();
+    }
+
+    public List<DialogueEvent> finish() throws IOException {
+        tail.poll(this::reset, line -> parser.consume(line, lineNumber++));
+        tail.finish(line -> parser.consume(line, lineNumber++));
+
+        parser.finish();
+        return drain();
+    }
+
+    private void reset() {
+        polled.clear();
+
+        if (diagnostics != null) {
+            diagnostics.clear();
+        }
+
+        parser = new AssFileParser(options, polled::add, diagnostics);
+        lineNumber = 0;
+    }
+
+    private List<DialogueEvent> drain() {
+        var events = new ArrayList<>(polled);
+        polled.clear();
+        return events;
+    }
+}
@@ -0,0 +1,325 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import java.util.Arrays;
+
+public final class AssTextTokenizer {
+
+    private static final String[] TAG_NAMES = {
+            "iclip", "alpha", "xbord", "ybord", "xshad", "yshad",
+            "fscx", "fscy", "fade", "bord", "shad", "blur", "move", "clip",
+            "fad", "fsp", "frx", "fry", "frz", "fax", "fay", "pos", "org", "pbo",
+            "fs", "fn", "fe", "fr", "be", "an", "kf", "ko", "1c", "2c", "3c", "4c", "1a", "2a", "3a", "4a",
+            "a", "b", "c", "i", "k", "K", "p", "q", "r", "s", "t", "u"
+    };
+
+    public enum Type {
+        TEXT,
+        DRAWING,
+        TAG,
+        COMMENT,
+        HARD_BREAK,
+        SOFT_BREAK,
+        HARD_SPACE
+    }
+
+    private final String text;
+
+    private int position;
+    private boolean inBlock;
+    private boolean drawing;
+
+    private Type type;
+    private int start;
+    private int end;
+    private int nameStart;
+    private int nameEnd;
+    private int[] arguments = new int[8];
+    private int argumentCount;
+
+    private AssTextTokenizer(String text) {
+        this.text = text;
+    }
+
+    public static AssTextTokenizer of(String text) {
+        return new AssTextTokenizer(text);
+    }
+
+    public static String plainText(String text) {
+        if (text == null || (text.indexOf('{') == -1 && text.indexOf('\\') == -1)) {
+            return text;
+        }
+
+        var tokenizer = of(text);
+        var plain = new StringBuilder(text.length());
+
+        while (tokenizer.next()) {
+            switch (tokenizer.type) {
+                case TEXT:
+                    plain.append(text, tokenizer.start, tokenizer.end);
+                    break;
+                case HARD_BREAK:
+                    plain.append('\n');
+                    break;
+                case SOFT_BREAK:
+                case HARD_SPACE:
+                    plain.append(' ');
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        return plain.toString();
+    }
+
+    public boolean next() {
+        while (position < text.length()) {
+            char c = text.charAt(position);
+
+            if (inBlock) {
+                if (c == '}') {
+                    inBlock = false;
+                    ++position;
+                } else if (c == '\\') {
+                    tag();
+                    return true;
+                } else {
+                    run(Type.COMMENT, true);
+                    return true;
+                }
+            } else if (c == '{' && text.indexOf('}', position + 1) != -1) {
+                inBlock = true;
+                ++position;
+            } else if (c == '\\' && position + 1 < text.length() && lineBreak(text.charAt(position + 1)) != null) {
+                token(lineBreak(text.charAt(position + 1)), position, position + 2);
+                position += 2;
+                return true;
+            } else {
+                run(drawing ? Type.DRAWING : Type.TEXT, false);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    public String getText() {
+        return text.substring(start, end);
+    }
+
+    public int getNameStart() {
+        return nameStart;
+    }
+
+    public int getNameEnd() {
+        return nameEnd;
+    }
+
+    public String getName() {
+        return type == Type.TAG ? text.substring(nameStart, nameEnd) : null;
+    }
+
+    public boolean isTag(String name) {
+        return type == Type.TAG && nameEnd - nameStart == name.length() && text.startsWith(name, nameStart);
+    }
+
+    public int getArgumentCount() {
+        return argumentCount;
+    }
+
+    public int getArgumentStart(int index) {
+        checkArgument(index);
+        return arguments[2 * index];
+    }
+
+    public int getArgumentEnd(int index) {
+        checkArgument(index);
+        return arguments[2 * index + 1];
+    }
+
+    public String getArgument(int index) {
+        return text.substring(getArgumentStart(index), getArgumentEnd(index));
+    }
+
+    private void checkArgument(int index) {
+        if (index < 0 || index >= argumentCount) {
+            throw new IndexOutOfBoundsException("Argument " + index + " out of bounds for length " + argumentCount);
+        }
+    }
+
+    private void run(Type runType, boolean block) {
+        int from = position;
+        int i = position;
+
+        while (i < text.length()) {
+            char c = text.charAt(i);
+
+            if (block ? c == '\\' || c == '}' : isRunEnd(c, i)) {
+                break;
+            }
+
+            ++i;
+        }
+
+        if (i == from) {
+            ++i;
+        }
+
+        token(runType, from, i);
+        position = i;
+    }
+
+    private boolean isRunEnd(char c, int i) {
+        if (c == '{') {
+            return text.indexOf('}', i + 1) != -1;
+        }
+
+        return c == '\\' && i + 1 < text.length() && lineBreak(text.charAt(i + 1)) != null;
+    }
+
+    private void tag() {
+        int from = position;
+        int i = position + 1;
+        var name = tagName(i);
+        int nameTo = name == null ? letters(i) : i + name.length();
+        token(Type.TAG, from, nameTo);
+        nameStart = i;
+        nameEnd = nameTo;
+        i = nameTo;
+
+        if (i < text.length() && text.charAt(i) == '(') {
+            i = parenthesized(i + 1);
+        } else {
+            int argumentEnd = i;
+
+            while (argumentEnd < text.length() && text.charAt(argumentEnd) != '\\' && text.charAt(argumentEnd) != '}') {
+                ++argumentEnd;
+            }
+
+            argument(i, argumentEnd, false);
+            i = argumentEnd;
+        }
+
+        end = i;
+        position = i;
+
+        if (isTag("p")) {
+            drawing = argumentCount == 1 && !isZero(getArgumentStart(0), getArgumentEnd(0));
+        }
+    }
+
+    private int parenthesized(int from) {
+        int depth = 0;
+        int argumentStart = from;
+        int i = from;
+
+        for (; i < text.length(); ++i) {
+            char c = text.charAt(i);
+
+            if (c == '(') {
+                ++depth;
+            } else if (c == ')') {
+                if (depth == 0) {
+                    argument(argumentStart, i, argumentCount > 0);
+                    return i + 1;
+                }
+
+                --depth;
+            } else if (c == ',' && depth == 0) {
+                argument(argumentStart, i, true);
+                argumentStart = i + 1;
+            } else if (c == '}' && depth == 0) {
+                break;
+            }
+        }
+
+        argument(argumentStart, i, argumentCount > 0);
+        return i;
+    }
+
+    private void argument(int from, int to, boolean keepEmpty) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) {
+            ++from;
+        }
+
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+            --to;
+        }
+
+        if (from == to && !keepEmpty) {
+            return;
+        }
+
+        if (2 * argumentCount + 2 > arguments.length) {
+            arguments = Arrays.copyOf(arguments, arguments.length * 2);
+        }
+
+        arguments[2 * argumentCount] = from;
+        arguments[2 * argumentCount + 1] = to;
+        ++argumentCount;
+    }
+
+    private void token(Type tokenType, int from, int to) {
+        type = tokenType;
+        start = from;
+        end = to;
+        nameStart = -1;
+        nameEnd = -1;
+        argumentCount = 0;
+    }
+
+    private String tagName(int from) {
+        for (var name : TAG_NAMES) {
+            if (text.startsWith(name, from)) {
+                return name;
+            }
+        }
+
+        return null;
+    }
+
+    private int letters(int from) {
+        int i = from;
+
+        while (i < text.length() && Character.isLetter(text.charAt(i))) {
+            ++i;
+        }
+
+        return i;
+    }
+
+    private boolean isZero(int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (text.charAt(i) != '0') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Type lineBreak(char c) {
+        switch (c) {
+            case 'N':
+                return Type.HARD_BREAK;
+            case 'n':
+                return Type.SOFT_BREAK;
+            case 'h':
+                return Type.HARD_SPACE;
+            default:
+                return null;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.github.killergerbah.jsubtitle.ass;
 
-public interface DialogueEvent {
+import io.github.killergerbah.jsubtitle.Cue;
+
+public interface DialogueEvent extends Cue {
 
     boolean isMarked();
 
@@ -12,6 +14,10 @@ public interface DialogueEvent {
 
     String getStyle();
 
+    default int getStyleIndex() {
+        return -1;
+    }
+
     String getName();
 
     String getMarginL();
@@ -23,4 +29,8 @@ public interface DialogueEvent {
     String getEffect();
 
     String getText();
+
+    default String getPlainText() {
+        return AssTextTokenizer.plainText(getText());
+    }
 }
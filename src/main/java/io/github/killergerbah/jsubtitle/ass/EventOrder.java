@@ -0,0 +1,27 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import java.util.Comparator;
+import java.util.List;
+
+final class EventOrder {
+
+    static final Comparator<DialogueEvent> COMPARATOR = Comparator.comparingLong(DialogueEvent::getStart)
+            .thenComparingInt(DialogueEvent::getLayer);
+
+    private EventOrder() {
+    }
+
+    static boolean inOrder(DialogueEvent previous, DialogueEvent next) {
+        return previous.getStart() < next.getStart()
+                || (previous.getStart() == next.getStart() && previous.getLayer() <= next.getLayer());
+    }
+
+    static <T extends DialogueEvent> void sort(List<T> events) {
+        for (int i = 1; i < events.size(); ++i) {
+            if (!inOrder(events.get(i - 1), events.get(i))) {
+                events.sort(COMPARATOR);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+final class ParallelEventParser {
+
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    private ParallelEventParser() {
+    }
+
+    static AssFile read(byte[] bytes, ParseOptions options, ForkJoinPool pool) {
+        return read(bytes, options, pool, MIN_CHUNK_SIZE);
+    }
+
+    static AssFile read(byte[] bytes, ParseOptions options, ForkJoinPool pool, int minChunkSize) {
+        var parser = new AssFileParser(options);
+        var lines = new ByteLines(bytes, 0, bytes.length);
+        int lineNumber = 0;
+
+        while (parser.getEventFormat() == null && lines.next()) {
+            parser.consume(lines.string(), lineNumber++);
+        }
+
+        var format = parser.getEventFormat();
+
+        if (format != null) {
+            int bodyStart = lines.position;
+            int chunkSize = Math.max(minChunkSize, (bytes.length - bodyStart) / (pool.getParallelism() * 4));
+            var tasks = new ArrayList<ForkJoinTask<Chunk>>();
+
+            for (int from = bodyStart; from < bytes.length; ) {
+                int to = chunkEnd(bytes, from + chunkSize);
+                int chunkFrom = from;
+                tasks.add(pool.submit(() -> parseChunk(bytes, chunkFrom, to, format)));
+                from = to;
+            }
+
+            var events = new ArrayList<AssFileParser.Event>();
+            int resumeAt = bytes.length;
+
+            for (var task : tasks) {
+                var chunk = task.join();
+                events.addAll(chunk.events);
+                lineNumber += chunk.lines;
+
+                if (chunk.terminator != -1) {
+                    resumeAt = chunk.terminator;
+                    break;
+                }
+            }
+
+            for (var task : tasks) {
+                task.cancel(false);
+            }
+
+            parser.addEvents(events);
+            lines = new ByteLines(bytes, resumeAt, bytes.length);
+
+            while (lines.next()) {
+                parser.consume(lines.string(), lineNumber++);
+            }
+        }
+
+        parser.finish();
+        return AssFileImpl.from(parser.getSections());
+    }
+
+    private static int chunkEnd(byte[] bytes, int from) {
+        if (from >= bytes.length) {
+            return bytes.length;
+        }
+
+        for (int i = from; i < bytes.length; ++i) {
+            if (bytes[i] == '\n') {
+                return i + 1;
+            }
+
+            if (bytes[i] == '\r') {
+                return i + 1 < bytes.length && bytes[i + 1] == '\n' ? i + 2 : i + 1;
+            }
+        }
+
+        return bytes.length;
+    }
+
+    private static Chunk parseChunk(byte[] bytes, int from, int to, AssFileParser.EventFormat format) {
+        var events = new ArrayList<AssFileParser.Event>();
+        var lines = new ByteLines(bytes, from, to);
+        int count = 0;
+
+        while (lines.next()) {
+            var line = lines.string();
+            int colon = line.indexOf(':');
+
+            if (colon == -1) {
+                if (!"".equals(line.trim())) {
+                    return new Chunk(events, count, lines.lineStart);
+                }
+            } else if (colon == 6 && line.startsWith("Format")) {
+                return new Chunk(events, count, lines.lineStart);
+            } else if (colon == 8 && line.startsWith("Dialogue")) {
+                events.add(format.parse(line, colon + 1));
+            }
+
+            ++count;
+        }
+
+        return new Chunk(events, count, -1);
+    }
+
+    private static final class Chunk {
+
+        private final List<AssFileParser.Event> events;
+        private final int lines;
+        private final int terminator;
+
+        Chunk(List<AssFileParser.Event> events, int lines, int terminator) {
+            this.events = events;
+            this.lines = lines;
+            this.terminator = terminator;
+        }
+    }
+
+    private static final class ByteLines {
+
+        private final byte[] bytes;
+        private final int limit;
+
+        private int position;
+        private int lineStart;
+        private int lineEnd;
+
+        ByteLines(byte[] bytes, int from, int to) {
+            this.bytes = bytes;
+            position = from;
+            limit = to;
+
+            if (to - from >= 3 && bytes[from] == (byte) 0xEF && bytes[from + 1] == (byte) 0xBB && bytes[from + 2] == (byte) 0xBF) {
+                position += 3;
+            }
+        }
+
+        boolean next() {
+            if (position >= limit) {
+                return false;
+            }
+
+            lineStart = position;
+
+            for (int i = position; i < limit; ++i) {
+                if (bytes[i] == '\n') {
+                    lineEnd = i;
+                    position = i + 1;
+                    return true;
+                }
+
+                if (bytes[i] == '\r') {
+                    lineEnd = i;
+                    position = i + 1 < limit && bytes[i + 1] == '\n' ? i + 2 : i + 1;
+                    return true;
+                }
+            }
+
+            lineEnd = limit;
+            position = limit;
+            return true;
+        }
+
+        String string() {
+            return new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -8,8 +8,8 @@ import java.util.concurrent.TimeUnit;
 
 final class Parse {
 
-    private static final NumberFormat DECIMAL_NUMBER_FORMAT = NumberFormat.getNumberInstance(Locale.US);
-    private static final NumberFormat COMMA_NUMBER_FORMAT = NumberFormat.getNumberInstance(Locale.FRANCE);
+    private static final ThreadLocal<NumberFormat> DECIMAL_NUMBER_FORMAT = ThreadLocal.withInitial(() -> NumberFormat.getNumberInstance(Locale.US));
+    private static final ThreadLocal<NumberFormat> COMMA_NUMBER_FORMAT = ThreadLocal.withInitial(() -> NumberFormat.getNumberInstance(Locale.FRANCE));
 
     private Parse() {
     }
@@ -17,11 +17,11 @@ final class Parse {
     static double decimal(String string) {
         try {
             if (string.contains(".")) {
-                return DECIMAL_NUMBER_FORMAT.parse(string).doubleValue();
+                return DECIMAL_NUMBER_FORMAT.get().parse(string).doubleValue();
             }
 
             if (string.contains(",")) {
-                return COMMA_NUMBER_FORMAT.parse(string).doubleValue();
+                return COMMA_NUMBER_FORMAT.get().parse(string).doubleValue();
             }
 
             return Double.parseDouble(string);
@@ -34,30 +34,97 @@ final class Parse {
         return "-1".equals(string);
     }
 
-    static long time(String string) {
-        var tokens = string.split(":");
+    static boolean bool(CharSequence chars, int from, int to) {
+        while (from < to && chars.charAt(from) <= ' ') {
+            ++from;
+        }
+
+        return to - from == 2 && chars.charAt(from) == '-' && chars.charAt(from + 1) == '1';
+    }
+
+    static long time(CharSequence string) {
+        return time(string, 0, string.length());
+    }
+
+    static long time(CharSequence chars, int from, int to) {
+        int hoursEnd = indexOf(chars, ':', from, to);
+        int minutesEnd = hoursEnd == -1 ? -1 : indexOf(chars, ':', hoursEnd + 1, to);
+        int secondsEnd = minutesEnd == -1 ? -1 : secondsEnd(chars, minutesEnd + 1, to);
+
+        if (secondsEnd == -1) {
+            throw new IllegalArgumentException("Improperly formatted time: " + chars.subSequence(from, to));
+        }
+
+        int hundredthsEnd = indexOf(chars, ':', secondsEnd + 1, to);
+
+        if (hundredthsEnd == -1) {
+            hundredthsEnd = to;
+        }
+
+        return TimeUnit.HOURS.toMillis(number(chars, from, hoursEnd))
+                + TimeUnit.MINUTES.toMillis(number(chars, hoursEnd + 1, minutesEnd))
+                + TimeUnit.SECONDS.toMillis(number(chars, minutesEnd + 1, secondsEnd))
+                + 10 * number(chars, secondsEnd + 1, hundredthsEnd);
+    }
+
+    static int integer(CharSequence chars, int from, int to) {
+        while (from < to && chars.charAt(from) <= ' ') {
+            ++from;
+        }
+
+        while (to > from && chars.charAt(to - 1) <= ' ') {
+            --to;
+        }
+
+        return Math.toIntExact(number(chars, from, to));
+    }
 
-        var hoursString = tokens[0];
-        var minutesString = tokens[1];
-        String secondsString;
-        String hundredthsString;
+    private static long number(CharSequence chars, int from, int to) {
+        boolean negative = from < to && chars.charAt(from) == '-';
+        int start = negative ? from + 1 : from;
 
-        if (tokens[2].contains(".")) {
-            var subTokens = tokens[2].split("\\.");
-            secondsString = subTokens[0];
-            hundredthsString = subTokens[1];
-        } else {
-            secondsString = tokens[2];
-            hundredthsString = tokens[3];
+        if (start == to) {
+            throw new NumberFormatException("For input string: \"" + chars.subSequence(from, to) + "\"");
         }
 
-        return TimeUnit.HOURS.toMillis(Long.parseLong(hoursString))
-                + TimeUnit.MINUTES.toMillis(Long.parseLong(minutesString))
-                + TimeUnit.SECONDS.toMillis(Long.parseLong(secondsString))
-                + 10 * Long.parseLong(hundredthsString);
+        long value = 0;
+
+        for (int i = start; i < to; ++i) {
+            int digit = chars.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("For input string: \"" + chars.subSequence(from, to) + "\"");
+            }
+
+            value = value * 10 + digit;
+        }
+
+        return negative ? -value : value;
     }
 
     static String[] format(String string) {
         return Arrays.stream(string.split(",")).map(String::trim).toArray(String[]::new);
     }
+
+    private static int secondsEnd(CharSequence chars, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            char c = chars.charAt(i);
+
+            if (c == '.' || c == ':') {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int indexOf(CharSequence chars, char c, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (chars.charAt(i) == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
 }
@@ -1,52 +1,6 @@
 package io.github.killergerbah.jsubtitle.ass;
 
-public interface StyleSection extends AssFileSection {
+public interface StyleSection extends AssFileSection, Style {
 
-    String getName();
-
-    String getFontName();
-
-    double getFontSize();
-
-    String getPrimaryColor();
-
-    String getSecondaryColor();
-
-    String getOutlineColor();
-
-    String getBackColor();
-
-    boolean isBold();
-
-    boolean isItalic();
-
-    boolean isUnderline();
-
-    boolean isStrikeOut();
-
-    double getScaleX();
-
-    double getScaleY();
-
-    double getSpacing();
-
-    double getAngle();
-
-    int getBorderStyle();
-
-    double getOutline();
-
-    double getShadow();
-
-    int getAlignment();
-
-    int getMarginL();
-
-    int getMarginR();
-
-    int getMarginV();
-
-    int getAlphaLevel();
-
-    int getEncoding();
+    StyleTable getStyles();
 }
@@ -0,0 +1,485 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+public final class StyleTable {
+
+    private static final byte BOLD = 1;
+    private static final byte ITALIC = 2;
+    private static final byte UNDERLINE = 4;
+    private static final byte STRIKE_OUT = 8;
+    private static final String DEFAULT_STYLE = "Default";
+
+    private final int size;
+    private final String[] names;
+    private final String[] fontNames;
+    private final double[] fontSizes;
+    private final String[] primaryColors;
+    private final String[] secondaryColors;
+    private final String[] outlineColors;
+    private final String[] backColors;
+    private final byte[] flags;
+    private final double[] scaleXs;
+    private final double[] scaleYs;
+    private final double[] spacings;
+    private final double[] angles;
+    private final int[] borderStyles;
+    private final double[] outlines;
+    private final double[] shadows;
+    private final int[] alignments;
+    private final int[] marginLs;
+    private final int[] marginRs;
+    private final int[] marginVs;
+    private final int[] alphaLevels;
+    private final int[] encodings;
+    private final Map<String, Integer> indexes;
+    private final List<Style> styles = new StyleList();
+
+    private StyleTable(Builder builder) {
+        size = builder.size;
+        names = Arrays.copyOf(builder.names, size);
+        fontNames = Arrays.copyOf(builder.fontNames, size);
+        fontSizes = Arrays.copyOf(builder.fontSizes, size);
+        primaryColors = Arrays.copyOf(builder.primaryColors, size);
+        secondaryColors = Arrays.copyOf(builder.secondaryColors, size);
+        outlineColors = Arrays.copyOf(builder.outlineColors, size);
+        backColors = Arrays.copyOf(builder.backColors, size);
+        flags = Arrays.copyOf(builder.flags, size);
+        scaleXs = Arrays.copyOf(builder.scaleXs, size);
+        scaleYs = Arrays.copyOf(builder.scaleYs, size);
+        spacings = Arrays.copyOf(builder.spacings, size);
+        angles = Arrays.copyOf(builder.angles, size);
+        borderStyles = Arrays.copyOf(builder.borderStyles, size);
+        outlines = Arrays.copyOf(builder.outlines, size);
+        shadows = Arrays.copyOf(builder.shadows, size);
+        alignments = Arrays.copyOf(builder.alignments, size);
+        marginLs = Arrays.copyOf(builder.marginLs, size);
+        marginRs = Arrays.copyOf(builder.marginRs, size);
+        marginVs = Arrays.copyOf(builder.marginVs, size);
+        alphaLevels = Arrays.copyOf(builder.alphaLevels, size);
+        encodings = Arrays.copyOf(builder.encodings, size);
+        indexes = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; ++i) {
+            if (names[i] != null) {
+                indexes.put(key(names[i]), i);
+            }
+        }
+    }
+
+    public static StyleTable of(Iterable<? extends Style> styles) {
+        return of(styles.iterator());
+    }
+
+    public static StyleTable of(Iterator<? extends Style> styles) {
+        var builder = new Builder();
+
+        while (styles.hasNext()) {
+            builder.add(styles.next());
+        }
+
+        return builder.build();
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int indexOf(String name) {
+        if (name == null) {
+            return -1;
+        }
+
+        var index = indexes.get(key(name));
+        return index == null ? -1 : index;
+    }
+
+    public int resolve(String name) {
+        int index = indexOf(name);
+
+        if (index == -1) {
+            index = indexOf(DEFAULT_STYLE);
+        }
+
+        return index == -1 && size > 0 ? 0 : index;
+    }
+
+    public String getName(int index) {
+        checkIndex(index);
+        return names[index];
+    }
+
+    public String getFontName(int index) {
+        checkIndex(index);
+        return fontNames[index];
+    }
+
+    public double getFontSize(int index) {
+        checkIndex(index);
+        return fontSizes[index];
+    }
+
+    public String getPrimaryColor(int index) {
+        checkIndex(index);
+        return primaryColors[index];
+    }
+
+    public String getSecondaryColor(int index) {
+        checkIndex(index);
+        return secondaryColors[index];
+    }
+
+    public String getOutlineColor(int index) {
+        checkIndex(index);
+        return outlineColors[index];
+    }
+
+    public String getBackColor(int index) {
+        checkIndex(index);
+        return backColors[index];
+    }
+
+    public boolean isBold(int index) {
+        checkIndex(index);
+        return (flags[index] & BOLD) != 0;
+    }
+
+    public boolean isItalic(int index) {
+        checkIndex(index);
+        return (flags[index] & ITALIC) != 0;
+    }
+
+    public boolean isUnderline(int index) {
+        checkIndex(index);
+        return (flags[index] & UNDERLINE) != 0;
+    }
+
+    public boolean isStrikeOut(int index) {
+        checkIndex(index);
+        return (flags[index] & STRIKE_OUT) != 0;
+    }
+
+    public double getScaleX(int index) {
+        checkIndex(index);
+        return scaleXs[index];
+    }
+
+    public double getScaleY(int index) {
+        checkIndex(index);
+        return scaleYs[index];
+    }
+
+    public double getSpacing(int index) {
+        checkIndex(index);
+        return spacings[index];
+    }
+
+    public double getAngle(int index) {
+        checkIndex(index);
+        return angles[index];
+    }
+
+    public int getBorderStyle(int index) {
+        checkIndex(index);
+        return borderStyles[index];
+    }
+
+    public double getOutline(int index) {
+        checkIndex(index);
+        return outlines[index];
+    }
+
+    public double getShadow(int index) {
+        checkIndex(index);
+        return shadows[index];
+    }
+
+    public int getAlignment(int index) {
+        checkIndex(index);
+        return alignments[index];
+    }
+
+    public int getMarginL(int index) {
+        checkIndex(index);
+        return marginLs[index];
+    }
+
+    public int getMarginR(int index) {
+        checkIndex(index);
+        return marginRs[index];
+    }
+
+    public int getMarginV(int index) {
+        checkIndex(index);
+        return marginVs[index];
+    }
+
+    public int getAlphaLevel(int index) {
+        checkIndex(index);
+        return alphaLevels[index];
+    }
+
+    public int getEncoding(int index) {
+        checkIndex(index);
+        return encodings[index];
+    }
+
+    public Style get(int index) {
+        checkIndex(index);
+        return new StyleView(this, index);
+    }
+
+    public List<Style> asList() {
+        return styles;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private static String key(String name) {
+        return name.startsWith("*") ? name.substring(1) : name;
+    }
+
+    static final class Builder {
+
+        private int size;
+        private String[] names = new String[8];
+        private String[] fontNames = new String[8];
+        private double[] fontSizes = new double[8];
+        private String[] primaryColors = new String[8];
+        private String[] secondaryColors = new String[8];
+        private String[] outlineColors = new String[8];
+        private String[] backColors = new String[8];
+        private byte[] flags = new byte[8];
+        private double[] scaleXs = new double[8];
+        private double[] scaleYs = new double[8];
+        private double[] spacings = new double[8];
+        private double[] angles = new double[8];
+        private int[] borderStyles = new int[8];
+        private double[] outlines = new double[8];
+        private double[] shadows = new double[8];
+        private int[] alignments = new int[8];
+        private int[] marginLs = new int[8];
+        private int[] marginRs = new int[8];
+        private int[] marginVs = new int[8];
+        private int[] alphaLevels = new int[8];
+        private int[] encodings = new int[8];
+
+        private Builder() {
+        }
+
+        void add(Style style) {
+            if (size == names.length) {
+                int capacity = size * 2;
+                names = Arrays.copyOf(names, capacity);
+                fontNames = Arrays.copyOf(fontNames, capacity);
+                fontSizes = Arrays.copyOf(fontSizes, capacity);
+                primaryColors = Arrays.copyOf(primaryColors, capacity);
+                secondaryColors = Arrays.copyOf(secondaryColors, capacity);
+                outlineColors = Arrays.copyOf(outlineColors, capacity);
+                backColors = Arrays.copyOf(backColors, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                scaleXs = Arrays.copyOf(scaleXs, capacity);
+                scaleYs = Arrays.copyOf(scaleYs, capacity);
+                spacings = Arrays.copyOf(spacings, capacity);
+                angles = Arrays.copyOf(angles, capacity);
+                borderStyles = Arrays.copyOf(borderStyles, capacity);
+                outlines = Arrays.copyOf(outlines, capacity);
+                shadows = Arrays.copyOf(shadows, capacity);
+                alignments = Arrays.copyOf(alignments, capacity);
+                marginLs = Arrays.copyOf(marginLs, capacity);
+                marginRs = Arrays.copyOf(marginRs, capacity);
+                marginVs = Arrays.copyOf(marginVs, capacity);
+                alphaLevels = Arrays.copyOf(alphaLevels, capacity);
+                encodings = Arrays.copyOf(encodings, capacity);
+            }
+
+            names[size] = style.getName();
+            fontNames[size] = style.getFontName();
+            fontSizes[size] = style.getFontSize();
+            primaryColors[size] = style.getPrimaryColor();
+            secondaryColors[size] = style.getSecondaryColor();
+            outlineColors[size] = style.getOutlineColor();
+            backColors[size] = style.getBackColor();
+            flags[size] = (byte) ((style.isBold() ? BOLD : 0)
+                    | (style.isItalic() ? ITALIC : 0)
+                    | (style.isUnderline() ? UNDERLINE : 0)
+                    | (style.isStrikeOut() ? STRIKE_OUT : 0));
+            scaleXs[size] = style.getScaleX();
+            scaleYs[size] = style.getScaleY();
+            spacings[size] = style.getSpacing();
+            angles[size] = style.getAngle();
+            borderStyles[size] = style.getBorderStyle();
+            outlines[size] = style.getOutline();
+            shadows[size] = style.getShadow();
+            alignments[size] = style.getAlignment();
+            marginLs[size] = style.getMarginL();
+            marginRs[size] = style.getMarginR();
+            marginVs[size] = style.getMarginV();
+            alphaLevels[size] = style.getAlphaLevel();
+            encodings[size] = style.getEncoding();
+            ++size;
+        }
+
+        StyleTable build() {
+            return new StyleTable(this);
+        }
+    }
+
+    private final class StyleList extends AbstractList<Style> implements RandomAccess {
+
+        @Override
+        public Style get(int index) {
+            return StyleTable.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class StyleView implements Style {
+
+        private final StyleTable table;
+        private final int index;
+
+        StyleView(StyleTable table, int index) {
+            this.table = table;
+            this.index = index;
+        }
+
+        @Override
+        public String getName() {
+            return table.names[index];
+        }
+
+        @Override
+        public String getFontName() {
+            return table.fontNames[index];
+        }
+
+        @Override
+        public double getFontSize() {
+            return table.fontSizes[index];
+        }
+
+        @Override
+        public String getPrimaryColor() {
+            return table.primaryColors[index];
+        }
+
+        @Override
+        public String getSecondaryColor() {
+            return table.secondaryColors[index];
+        }
+
+        @Override
+        public String getOutlineColor() {
+            return table.outlineColors[index];
+        }
+
+        @Override
+        public String getBackColor() {
+            return table.backColors[index];
+        }
+
+        @Override
+        public boolean isBold() {
+            return (table.flags[index] & BOLD) != 0;
+        }
+
+        @Override
+        public boolean isItalic() {
+            return (table.flags[index] & ITALIC) != 0;
+        }
+
+        @Override
+        public boolean isUnderline() {
+            return (table.flags[index] & UNDERLINE) != 0;
+        }
+
+        @Override
+        public boolean isStrikeOut() {
+            return (table.flags[index] & STRIKE_OUT) != 0;
+        }
+
+        @Override
+        public double getScaleX() {
+            return table.scaleXs[index];
+        }
+
+        @Override
+        public double getScaleY() {
+            return table.scaleYs[index];
+        }
+
+        @Override
+        public double getSpacing() {
+            return table.spacings[index];
+        }
+
+        @Override
+        public double getAngle() {
+            return table.angles[index];
+        }
+
+        @Override
+        public int getBorderStyle() {
+            return table.borderStyles[index];
+        }
+
+        @Override
+        public double getOutline() {
+            return table.outlines[index];
+        }
+
+        @Override
+        public double getShadow() {
+            return table.shadows[index];
+        }
+
+        @Override
+        public int getAlignment() {
+            return table.alignments[index];
+        }
+
+        @Override
+        public int getMarginL() {
+            return table.marginLs[index];
+        }
+
+        @Override
+        public int getMarginR() {
+            return table.marginRs[index];
+        }
+
+        @Override
+        public int getMarginV() {
+            return table.marginVs[index];
+        }
+
+        @Override
+        public int getAlphaLevel() {
+            return table.alphaLevels[index];
+        }
+
+        @Override
+        public int getEncoding() {
+            return table.encodings[index];
+        }
+    }
+}
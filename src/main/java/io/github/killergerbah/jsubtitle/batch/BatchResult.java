@@ -0,0 +1,84 @@
+package io.github.killergerbah.jsubtitle.batch;
+
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+
+import java.nio.file.Path;
+import java.util.List;
+
+public final class BatchResult {
+
+    private final Path path;
+    private final SubtitleFormat format;
+    private final AssFile assFile;
+    private final List<SrtSubtitle> srtSubtitles;
+    private final List<ParseDiagnostic> diagnostics;
+    private final Exception failure;
+    private final long elapsedNanos;
+
+    private BatchResult(Path path, SubtitleFormat format, AssFile assFile, List<SrtSubtitle> srtSubtitles, List<ParseDiagnostic> diagnostics, Exception failure, long elapsedNanos) {
+        this.path = path;
+        this.format = format;
+        this.assFile = assFile;
+        this.srtSubtitles = srtSubtitles;
+        this.diagnostics = diagnostics;
+        this.failure = failure;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    static BatchResult ass(Path path, AssFile assFile, List<ParseDiagnostic> diagnostics, long elapsedNanos) {
+        return new BatchResult(path, SubtitleFormat.ASS, assFile, null, diagnostics, null, elapsedNanos);
+    }
+
+    static BatchResult srt(Path path, List<SrtSubtitle> srtSubtitles, List<ParseDiagnostic> diagnostics, long elapsedNanos) {
+        return new BatchResult(path, SubtitleFormat.SRT, null, srtSubtitles, diagnostics, null, elapsedNanos);
+    }
+
+    static BatchResult failure(Path path, SubtitleFormat format, Exception failure, long elapsedNanos) {
+        return new BatchResult(path, format, null, null, List.of(), failure, elapsedNanos);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public SubtitleFormat getFormat() {
+        return format;
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    public AssFile getAssFile() {
+        return assFile;
+    }
+
+    public List<SrtSubtitle> getSrtSubtitles() {
+        return srtSubtitles;
+    }
+
+    public List<ParseDiagnostic> getDiagnostics() {
+        return diagnostics;
+    }
+
+    public Exception getFailure() {
+        return failure;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResult{" +
+                "path=" + path +
+                ", format=" + format +
+                ", success=" + isSuccess() +
+                ", elapsedNanos=" + elapsedNanos +
+                '}';
+    }
+}
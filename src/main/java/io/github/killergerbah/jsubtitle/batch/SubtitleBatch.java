@@ -0,0 +1,246 @@
+package io.github.killergerbah.jsubtitle.batch;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public final class SubtitleBatch {
+
+    private final PathSource source;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final ParseOptions options;
+    private final boolean lenient;
+
+    private SubtitleBatch(PathSource source, Executor executor, int maxInFlight, ParseOptions options, boolean lenient) {
+        this.source = source;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+        this.options = options;
+        this.lenient = lenient;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public void run(Consumer<BatchResult> callback) throws IOException, InterruptedException {
+        var ownedExecutor = executor == null ? defaultExecutor() : null;
+        var runExecutor = executor == null ? ownedExecutor : executor;
+        var permits = new Semaphore(maxInFlight);
+        var callbackLock = new Object();
+        var failure = new AtomicReference<Throwable>();
+        var cancelled = new AtomicBoolean();
+        boolean completed = false;
+
+        try (var paths = source.open()) {
+            var iterator = paths.iterator();
+
+            while (failure.get() == null && iterator.hasNext()) {
+                var path = iterator.next();
+                permits.acquire();
+
+                if (failure.get() != null) {
+                    permits.release();
+                    break;
+                }
+
+                try {
+                    CompletableFuture.runAsync(() -> {
+                        try {
+                            var result = parse(path);
+
+                            synchronized (callbackLock) {
+                                if (failure.get() == null && !cancelled.get()) {
+                                    callback.accept(result);
+                                }
+                            }
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        } finally {
+                            permits.release();
+                        }
+                    }, runExecutor);
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+
+            permits.acquire(maxInFlight);
+            permits.release(maxInFlight);
+            completed = true;
+        } finally {
+            if (!completed) {
+                synchronized (callbackLock) {
+                    cancelled.set(true);
+                }
+            }
+
+            if (ownedExecutor != null) {
+                if (completed) {
+                    ownedExecutor.shutdown();
+                } else {
+                    ownedExecutor.shutdownNow();
+                }
+            }
+        }
+
+        rethrow(failure.get());
+    }
+
+    private static void rethrow(Throwable failure) {
+        if (failure == null) {
+            return;
+        }
+
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+
+        throw new IllegalStateException(failure);
+    }
+
+    private BatchResult parse(Path path) {
+        var format = SubtitleFormat.fromPath(path);
+        long start = System.nanoTime();
+
+        try {
+            if (format == SubtitleFormat.ASS) {
+                if (lenient) {
+                    var result = AssFile.readLenient(path.toFile(), options);
+                    return BatchResult.ass(path, result.getValue(), result.getDiagnostics(), System.nanoTime() - start);
+                }
+
+                return BatchResult.ass(path, AssFile.read(path.toFile(), options), List.of(), System.nanoTime() - start);
+            }
+
+            if (format == SubtitleFormat.SRT) {
+                if (lenient) {
+                    var result = SrtSubtitle.readLenient(path.toFile(), options);
+                    return BatchResult.srt(path, result.getValue(), result.getDiagnostics(), System.nanoTime() - start);
+                }
+
+                return BatchResult.srt(path, SrtSubtitle.read(path.toFile(), options), List.of(), System.nanoTime() - start);
+            }
+
+            throw new IllegalArgumentException("Unrecognized subtitle format: " + path);
+        } catch (Exception e) {
+            return BatchResult.failure(path, format, e, System.nanoTime() - start);
+        }
+    }
+
+    static ExecutorService defaultExecutor() {
+        try {
+            var method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                var thread = new Thread(runnable, "jsubtitle-batch");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private interface PathSource {
+
+        Stream<Path> open() throws IOException;
+    }
+
+    public static final class Builder {
+
+        private final Collection<PathSource> sources = new ArrayList<>();
+        private Executor executor;
+        private int maxInFlight = 4 * Runtime.getRuntime().availableProcessors();
+        private ParseOptions options = ParseOptions.DEFAULT;
+        private boolean lenient;
+
+        private Builder() {
+        }
+
+        public Builder paths(Collection<Path> paths) {
+            var copy = new ArrayList<>(paths);
+            sources.add(copy::stream);
+            return this;
+        }
+
+        public Builder directory(Path directory) {
+            sources.add(() -> Files.walk(directory)
+                    .filter(Files::isRegularFile)
+                    .filter(path -> SubtitleFormat.fromPath(path) != null));
+            return this;
+        }
+
+        public Builder glob(Path directory, String glob) {
+            var matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+            sources.add(() -> Files.walk(directory)
+                    .filter(Files::isRegularFile)
+                    .filter(path -> matcher.matches(directory.relativize(path))));
+            return this;
+        }
+
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        public Builder maxInFlight(int maxInFlight) {
+            if (maxInFlight < 1) {
+                throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+            }
+
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        public Builder options(ParseOptions options) {
+            this.options = Objects.requireNonNull(options);
+            return this;
+        }
+
+        public Builder lenient(boolean lenient) {
+            this.lenient = lenient;
+            return this;
+        }
+
+        public SubtitleBatch build() {
+            var batchSources = new ArrayList<>(sources);
+            PathSource source = () -> {
+                Stream<Path> paths = Stream.empty();
+
+                for (var s : batchSources) {
+                    paths = Stream.concat(paths, s.open());
+                }
+
+                return paths;
+            };
+
+            return new SubtitleBatch(source, executor, maxInFlight, options, lenient);
+        }
+    }
+}
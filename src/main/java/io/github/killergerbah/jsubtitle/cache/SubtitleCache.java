@@ -0,0 +1,437 @@
+package io.github.killergerbah.jsubtitle.cache;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.ass.DialogueEvent;
+import io.github.killergerbah.jsubtitle.ass.EventSection;
+import io.github.killergerbah.jsubtitle.ass.ScriptInfoSection;
+import io.github.killergerbah.jsubtitle.ass.StyleSection;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class SubtitleCache {
+
+    private static final long DEFAULT_MAXIMUM_WEIGHT = 256L << 20;
+    private static final int ASS_EVENT_WEIGHT = 96;
+    private static final int SRT_SUBTITLE_WEIGHT = 48;
+    private static final int STYLE_WEIGHT = 160;
+    private static final int SCRIPT_INFO_WEIGHT = 128;
+
+    private final long maximumWeight;
+    private final ParseOptions options;
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    private long weight;
+
+    private SubtitleCache(Builder builder) {
+        maximumWeight = builder.maximumWeight;
+        options = builder.options;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public AssFile getAss(File file) throws IOException {
+        return (AssFile) get(file.toPath(), SubtitleFormat.ASS, () -> new CachedAssFile(AssFile.read(file, options)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<SrtSubtitle> getSrt(File file) throws IOException {
+        return (List<SrtSubtitle>) get(file.toPath(), SubtitleFormat.SRT, () -> Collections.unmodifiableList(SrtSubtitle.read(file, options)));
+    }
+
+    public void invalidate(File file) {
+        var path = file.toPath().toAbsolutePath().normalize();
+
+        synchronized (entries) {
+            for (var format : SubtitleFormat.values()) {
+                remove(new Key(path, format));
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    public Stats stats() {
+        synchronized (entries) {
+            return new Stats(hits.sum(), misses.sum(), evictions.sum(), loads.sum(), loadFailures.sum(), loadNanos.sum(), entries.size(), weight);
+        }
+    }
+
+    private Object get(Path path, SubtitleFormat format, Callable<Object> loader) throws IOException {
+        var key = new Key(path.toAbsolutePath().normalize(), format);
+        var attributes = Files.readAttributes(key.path, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+        long size = attributes.size();
+        Entry entry;
+        boolean owner = false;
+
+        synchronized (entries) {
+            entry = entries.get(key);
+
+            if (entry != null && entry.modified == modified && entry.size == size) {
+                hits.increment();
+            } else {
+                if (entry != null) {
+                    remove(key);
+                }
+
+                misses.increment();
+                entry = new Entry(modified, size, loader);
+                entries.put(key, entry);
+                owner = true;
+            }
+        }
+
+        if (owner) {
+            load(key, entry);
+        }
+
+        try {
+            return entry.task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IOException(cause);
+        }
+    }
+
+    private void load(Key key, Entry entry) {
+        long start = System.nanoTime();
+        entry.task.run();
+        loadNanos.add(System.nanoTime() - start);
+        Object value;
+
+        try {
+            value = entry.task.get();
+        } catch (InterruptedException | ExecutionException e) {
+            loadFailures.increment();
+
+            synchronized (entries) {
+                if (entries.get(key) == entry) {
+                    entries.remove(key);
+                }
+            }
+
+            return;
+        }
+
+        loads.increment();
+
+        synchronized (entries) {
+            if (entries.get(key) != entry) {
+                return;
+            }
+
+            entry.weight = options.isLazyEvents() && value instanceof AssFile ? weighLazy((AssFile) value, entry.size) : weigh(value);
+            weight += entry.weight;
+            evict();
+        }
+    }
+
+    private void evict() {
+        var iterator = entries.entrySet().iterator();
+
+        while (weight > maximumWeight && iterator.hasNext()) {
+            var candidate = iterator.next().getValue();
+
+            if (!candidate.task.isDone()) {
+                continue;
+            }
+
+            iterator.remove();
+            weight -= candidate.weight;
+            evictions.increment();
+        }
+    }
+
+    private void remove(Key key) {
+        var entry = entries.remove(key);
+
+        if (entry != null) {
+            weight -= entry.weight;
+        }
+    }
+
+    static long weigh(Object value) {
+        if (value instanceof AssFile) {
+            var assFile = (AssFile) value;
+            Set<String> symbols = Collections.newSetFromMap(new IdentityHashMap<>());
+            long weight = weigh(assFile.getScriptInfoSection()) + weigh(assFile.getStyleSection());
+            var eventSection = assFile.getEventSection();
+
+            if (eventSection != null) {
+                for (DialogueEvent event : eventSection.getEvents()) {
+                    weight += ASS_EVENT_WEIGHT + weigh(event.getText());
+                    weight += weighSymbol(symbols, event.getStyle()) + weighSymbol(symbols, event.getName())
+                            + weighSymbol(symbols, event.getMarginL()) + weighSymbol(symbols, event.getMarginR())
+                            + weighSymbol(symbols, event.getMarginV()) + weighSymbol(symbols, event.getEffect());
+                }
+            }
+
+            return weight;
+        }
+
+        long weight = 0;
+
+        for (var subtitle : (List<?>) value) {
+            weight += SRT_SUBTITLE_WEIGHT + 2L * ((SrtSubtitle) subtitle).getText().length();
+        }
+
+        return weight;
+    }
+
+    static long weighLazy(AssFile assFile, long fileSize) {
+        var eventSection = assFile.getEventSection();
+        long events = eventSection == null ? 0 : eventSection.getEvents().size();
+        return weigh(assFile.getScriptInfoSection()) + weigh(assFile.getStyleSection()) + events * ASS_EVENT_WEIGHT + 2 * fileSize;
+    }
+
+    private static long weigh(ScriptInfoSection section) {
+        if (section == null) {
+            return 0;
+        }
+
+        long weight = SCRIPT_INFO_WEIGHT + weigh(section.getTitle()) + weigh(section.getOriginalScript())
+                + weigh(section.getOriginalTranslation()) + weigh(section.getOriginalEditing())
+                + weigh(section.getOriginalTiming()) + weigh(section.getSynchPoint()) + weigh(section.getScriptUpdatedBy())
+                + weigh(section.getUpdateDetails()) + weigh(section.getScriptType()) + weigh(section.getCollisions());
+
+        for (var comment : section.getComments()) {
+            weight += weigh(comment);
+        }
+
+        return weight;
+    }
+
+    private static long weigh(StyleSection section) {
+        if (section == null) {
+            return 0;
+        }
+
+        var styles = section.getStyles();
+        long weight = 0;
+
+        for (int i = 0; i < styles.size(); ++i) {
+            weight += STYLE_WEIGHT + weigh(styles.getName(i)) + weigh(styles.getFontName(i))
+                    + weigh(styles.getPrimaryColor(i)) + weigh(styles.getSecondaryColor(i))
+                    + weigh(styles.getOutlineColor(i)) + weigh(styles.getBackColor(i));
+        }
+
+        return weight;
+    }
+
+    private static long weighSymbol(Set<String> symbols, String symbol) {
+        return symbol != null && symbols.add(symbol) ? weigh(symbol) : 0;
+    }
+
+    private static long weigh(String string) {
+        return string == null ? 0 : 2L * string.length();
+    }
+
+    private static final class CachedAssFile implements AssFile {
+
+        private final ScriptInfoSection scriptInfoSection;
+        private final StyleSection styleSection;
+        private final EventSection eventSection;
+
+        CachedAssFile(AssFile file) {
+            scriptInfoSection = file.getScriptInfoSection();
+            styleSection = file.getStyleSection();
+            var events = file.getEventSection() == null ? null : Collections.unmodifiableList(file.getEventSection().getEvents());
+            eventSection = events == null ? null : () -> events;
+        }
+
+        @Override
+        public ScriptInfoSection getScriptInfoSection() {
+            return scriptInfoSection;
+        }
+
+        @Override
+        public StyleSection getStyleSection() {
+            return styleSection;
+        }
+
+        @Override
+        public EventSection getEventSection() {
+            return eventSection;
+        }
+    }
+
+    private static final class Key {
+
+        private final Path path;
+        private final SubtitleFormat format;
+
+        Key(Path path, SubtitleFormat format) {
+            this.path = path;
+            this.format = format;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            var key = (Key) o;
+            return path.equals(key.path) && format == key.format;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, format);
+        }
+    }
+
+    private static final class Entry {
+
+        private final long modified;
+        private final long size;
+        private final FutureTask<Object> task;
+
+        private long weight;
+
+        Entry(long modified, long size, Callable<Object> loader) {
+            this.modified = modified;
+            this.size = size;
+            task = new FutureTask<>(loader);
+        }
+    }
+
+    public static final class Stats {
+
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long loadCount;
+        private final long loadFailureCount;
+        private final long totalLoadTimeNanos;
+        private final int entryCount;
+        private final long weight;
+
+        Stats(long hitCount, long missCount, long evictionCount, long loadCount, long loadFailureCount, long totalLoadTimeNanos, int entryCount, long weight) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.loadCount = loadCount;
+            this.loadFailureCount = loadFailureCount;
+            this.totalLoadTimeNanos = totalLoadTimeNanos;
+            this.entryCount = entryCount;
+            this.weight = weight;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        public long getLoadFailureCount() {
+            return loadFailureCount;
+        }
+
+        public long getTotalLoadTimeNanos() {
+            return totalLoadTimeNanos;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats{hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + ", loads=" + loadCount
+                    + ", loadFailures=" + loadFailureCount + ", totalLoadTimeNanos=" + totalLoadTimeNanos + ", entries=" + entryCount
+                    + ", weight=" + weight + "}";
+        }
+    }
+
+    public static final class Builder {
+
+        private long maximumWeight = DEFAULT_MAXIMUM_WEIGHT;
+        private ParseOptions options = ParseOptions.DEFAULT;
+
+        private Builder() {
+        }
+
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("maximumWeight must not be negative: " + maximumWeight);
+            }
+
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        public Builder options(ParseOptions options) {
+            this.options = Objects.requireNonNull(options);
+            return this;
+        }
+
+        public SubtitleCache build() {
+            return new SubtitleCache(this);
+        }
+    }
+}
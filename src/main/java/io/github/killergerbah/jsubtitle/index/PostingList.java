@@ -0,0 +1,124 @@
+package io.github.killergerbah.jsubtitle.index;
+
+import java.util.Arrays;
+
+final class PostingList {
+
+    private byte[] bytes = new byte[8];
+    private int length;
+    private int documents;
+    private int lastDocument = -1;
+
+    void add(int document, int[] positions, int count) {
+        writeVarint(document - lastDocument);
+        writeVarint(count);
+        int lastPosition = 0;
+
+        for (int i = 0; i < count; ++i) {
+            writeVarint(positions[i] - lastPosition);
+            lastPosition = positions[i];
+        }
+
+        lastDocument = document;
+        ++documents;
+    }
+
+    int getDocumentCount() {
+        return documents;
+    }
+
+    int getByteSize() {
+        return length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void writeVarint(int value) {
+        if (length + 5 > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + 5));
+        }
+
+        while ((value & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+
+        bytes[length++] = (byte) value;
+    }
+
+    final class Cursor {
+
+        private final byte[] data = bytes;
+        private final int limit = length;
+
+        private int offset;
+        private int document = -1;
+        private int[] positions = new int[4];
+        private int positionCount;
+
+        boolean next() {
+            if (offset >= limit) {
+                document = Integer.MAX_VALUE;
+                return false;
+            }
+
+            document += readVarint();
+            positionCount = readVarint();
+
+            if (positionCount > positions.length) {
+                positions = new int[Math.max(positionCount, positions.length * 2)];
+            }
+
+            int position = 0;
+
+            for (int i = 0; i < positionCount; ++i) {
+                position += readVarint();
+                positions[i] = position;
+            }
+
+            return true;
+        }
+
+        boolean advance(int target) {
+            while (document < target) {
+                if (!next()) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        int document() {
+            return document;
+        }
+
+        boolean hasPosition(int position) {
+            return Arrays.binarySearch(positions, 0, positionCount, position) >= 0;
+        }
+
+        int positionCount() {
+            return positionCount;
+        }
+
+        int position(int index) {
+            return positions[index];
+        }
+
+        private int readVarint() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+
+            do {
+                b = data[offset++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            return value;
+        }
+    }
+}
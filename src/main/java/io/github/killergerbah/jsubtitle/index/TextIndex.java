@@ -0,0 +1,293 @@
+package io.github.killergerbah.jsubtitle.index;
+
+import io.github.killergerbah.jsubtitle.Cue;
+import io.github.killergerbah.jsubtitle.ass.DialogueEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class TextIndex {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<String, PostingList> characters = new HashMap<>();
+
+    private int[] fileIds = new int[1024];
+    private int[] cueIndexes = new int[1024];
+    private long[] starts = new long[1024];
+    private long[] ends = new long[1024];
+    private int size;
+    private int files;
+
+    public synchronized int add(List<? extends Cue> cues) {
+        int fileId = files++;
+        var positions = new LinkedHashMap<String, int[]>();
+        var cjk = new HashSet<String>();
+
+        for (int i = 0; i < cues.size(); ++i) {
+            var cue = cues.get(i);
+            var text = cue instanceof DialogueEvent ? ((DialogueEvent) cue).getPlainText() : cue.getText();
+            int document = append(fileId, i, cue);
+
+            if (text == null) {
+                continue;
+            }
+
+            positions.clear();
+            TextTokenizer.tokenize(text, (token, position) -> {
+                var termPositions = positions.get(token);
+
+                if (termPositions == null) {
+                    positions.put(token, new int[]{1, position});
+                } else {
+                    if (termPositions[0] + 1 == termPositions.length) {
+                        termPositions = Arrays.copyOf(termPositions, termPositions.length * 2);
+                        positions.put(token, termPositions);
+                    }
+
+                    termPositions[++termPositions[0]] = position;
+                }
+            });
+
+            for (var entry : positions.entrySet()) {
+                var termPositions = entry.getValue();
+                postings.computeIfAbsent(entry.getKey(), t -> new PostingList())
+                        .add(document, Arrays.copyOfRange(termPositions, 1, termPositions[0] + 1), termPositions[0]);
+            }
+
+            cjk.clear();
+
+            for (int j = 0; j < text.length(); ) {
+                int codePoint = text.codePointAt(j);
+                int next = j + Character.charCount(codePoint);
+
+                if (TextTokenizer.isCjk(codePoint)) {
+                    var character = text.substring(j, next);
+
+                    if (cjk.add(character)) {
+                        characters.computeIfAbsent(character, c -> new PostingList()).add(document, NO_POSITIONS, 0);
+                    }
+                }
+
+                j = next;
+            }
+        }
+
+        return fileId;
+    }
+
+    public synchronized int getFileCount() {
+        return files;
+    }
+
+    public synchronized int getCueCount() {
+        return size;
+    }
+
+    public synchronized int getTermCount() {
+        return postings.size();
+    }
+
+    public synchronized long getPostingBytes() {
+        long bytes = 0;
+
+        for (var list : postings.values()) {
+            bytes += list.getByteSize();
+        }
+
+        for (var list : characters.values()) {
+            bytes += list.getByteSize();
+        }
+
+        return bytes;
+    }
+
+    public List<Hit> phrase(String query) {
+        return phrase(query, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public synchronized List<Hit> phrase(String query, long from, long to) {
+        return search(query, from, to, true);
+    }
+
+    public List<Hit> all(String query) {
+        return all(query, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    public synchronized List<Hit> all(String query, long from, long to) {
+        return search(query, from, to, false);
+    }
+
+    private List<Hit> search(String query, long from, long to, boolean phrase) {
+        var terms = new ArrayList<String>();
+        var offsets = new ArrayList<Integer>();
+        TextTokenizer.tokenize(query, (token, position) -> {
+            terms.add(token);
+            offsets.add(position);
+        });
+
+        var hits = new ArrayList<Hit>();
+
+        if (terms.isEmpty()) {
+            return hits;
+        }
+
+        if (terms.size() == 1 && isSingleCjk(terms.get(0))) {
+            return containing(terms.get(0), from, to);
+        }
+
+        var cursors = new PostingList.Cursor[terms.size()];
+        var order = new Integer[terms.size()];
+
+        for (int i = 0; i < cursors.length; ++i) {
+            var list = postings.get(terms.get(i));
+
+            if (list == null) {
+                return hits;
+            }
+
+            cursors[i] = list.cursor();
+            order[i] = i;
+        }
+
+        Arrays.sort(order, Comparator.comparingInt(i -> postings.get(terms.get(i)).getDocumentCount()));
+        var lead = cursors[order[0]];
+        int target = 0;
+
+        candidates:
+        while (lead.advance(target)) {
+            int document = lead.document();
+            target = document + 1;
+
+            for (int k = 1; k < order.length; ++k) {
+                var cursor = cursors[order[k]];
+
+                if (!cursor.advance(document)) {
+                    break candidates;
+                }
+
+                if (cursor.document() != document) {
+                    target = cursor.document();
+                    continue candidates;
+                }
+            }
+
+            if (phrase && !phraseAt(cursors, offsets)) {
+                continue;
+            }
+
+            if (starts[document] < to && from < ends[document]) {
+                hits.add(hit(document));
+            }
+        }
+
+        return hits;
+    }
+
+    private static boolean phraseAt(PostingList.Cursor[] cursors, List<Integer> offsets) {
+        var first = cursors[0];
+
+        for (int p = 0; p < first.positionCount(); ++p) {
+            int base = first.position(p) - offsets.get(0);
+            boolean matched = true;
+
+            for (int i = 1; i < cursors.length && matched; ++i) {
+                matched = cursors[i].hasPosition(base + offsets.get(i));
+            }
+
+            if (matched) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private List<Hit> containing(String character, long from, long to) {
+        var hits = new ArrayList<Hit>();
+        var list = characters.get(character);
+
+        if (list == null) {
+            return hits;
+        }
+
+        var cursor = list.cursor();
+
+        while (cursor.next()) {
+            int document = cursor.document();
+
+            if (starts[document] < to && from < ends[document]) {
+                hits.add(hit(document));
+            }
+        }
+
+        return hits;
+    }
+
+    private static boolean isSingleCjk(String term) {
+        return term.codePointCount(0, term.length()) == 1 && TextTokenizer.isCjk(term.codePointAt(0));
+    }
+
+    private int append(int fileId, int cueIndex, Cue cue) {
+        if (size == fileIds.length) {
+            int capacity = size * 2;
+            fileIds = Arrays.copyOf(fileIds, capacity);
+            cueIndexes = Arrays.copyOf(cueIndexes, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+        }
+
+        fileIds[size] = fileId;
+        cueIndexes[size] = cueIndex;
+        starts[size] = cue.getStart();
+        ends[size] = cue.getEnd();
+        return size++;
+    }
+
+    private Hit hit(int document) {
+        return new Hit(fileIds[document], cueIndexes[document], starts[document], ends[document]);
+    }
+
+    public static final class Hit {
+
+        private final int fileId;
+        private final int cueIndex;
+        private final long start;
+        private final long end;
+
+        Hit(int fileId, int cueIndex, long start, long end) {
+            this.fileId = fileId;
+            this.cueIndex = cueIndex;
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getFileId() {
+            return fileId;
+        }
+
+        public int getCueIndex() {
+            return cueIndex;
+        }
+
+        public long getStart() {
+            return start;
+        }
+
+        public long getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return "Hit{fileId=" + fileId + ", cueIndex=" + cueIndex + ", start=" + start + ", end=" + end + "}";
+        }
+    }
+}
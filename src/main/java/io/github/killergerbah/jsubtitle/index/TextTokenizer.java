@@ -0,0 +1,63 @@
+package io.github.killergerbah.jsubtitle.index;
+
+import java.util.Locale;
+
+final class TextTokenizer {
+
+    interface TokenConsumer {
+
+        void accept(String token, int position);
+    }
+
+    private TextTokenizer() {
+    }
+
+    static int tokenize(String text, TokenConsumer consumer) {
+        int position = 0;
+        int i = 0;
+
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+
+            if (isCjk(codePoint)) {
+                int runStart = i;
+                int previous = -1;
+                int length = 0;
+
+                while (i < text.length() && isCjk(codePoint = text.codePointAt(i))) {
+                    if (previous != -1) {
+                        consumer.accept(text.substring(previous, i + Character.charCount(codePoint)), position++);
+                    }
+
+                    previous = i;
+                    i += Character.charCount(codePoint);
+                    ++length;
+                }
+
+                if (length == 1) {
+                    consumer.accept(text.substring(runStart, i), position++);
+                }
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                int wordStart = i;
+
+                while (i < text.length() && Character.isLetterOrDigit(codePoint = text.codePointAt(i)) && !isCjk(codePoint)) {
+                    i += Character.charCount(codePoint);
+                }
+
+                consumer.accept(text.substring(wordStart, i).toLowerCase(Locale.ROOT), position++);
+            } else {
+                i += Character.charCount(codePoint);
+            }
+        }
+
+        return position;
+    }
+
+    static boolean isCjk(int codePoint) {
+        var script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
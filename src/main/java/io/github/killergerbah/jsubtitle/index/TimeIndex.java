@@ -0,0 +1,99 @@
+package io.github.killergerbah.jsubtitle.index;
+
+import io.github.killergerbah.jsubtitle.Cue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public final class TimeIndex<T extends Cue> {
+
+    private final Object[] cues;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+
+    private TimeIndex(Object[] cues) {
+        this.cues = cues;
+        starts = new long[cues.length];
+        ends = new long[cues.length];
+        maxEnds = new long[cues.length];
+
+        for (int i = 0; i < cues.length; ++i) {
+            var cue = (Cue) cues[i];
+            starts[i] = cue.getStart();
+            ends[i] = cue.getEnd();
+        }
+
+        build(0, cues.length);
+    }
+
+    public static <T extends Cue> TimeIndex<T> of(Collection<? extends T> cues) {
+        var sorted = cues.toArray();
+        Arrays.sort(sorted, Comparator.comparingLong(c -> ((Cue) c).getStart()));
+        return new TimeIndex<>(sorted);
+    }
+
+    public int size() {
+        return cues.length;
+    }
+
+    public List<T> at(long time) {
+        var result = new ArrayList<T>();
+        forEachAt(time, result::add);
+        return result;
+    }
+
+    public List<T> overlapping(long from, long to) {
+        var result = new ArrayList<T>();
+        forEachOverlapping(from, to, result::add);
+        return result;
+    }
+
+    public void forEachAt(long time, Consumer<? super T> consumer) {
+        visit(0, cues.length, time, time, consumer);
+    }
+
+    public void forEachOverlapping(long from, long to, Consumer<? super T> consumer) {
+        if (from < to) {
+            visit(0, cues.length, from, to - 1, consumer);
+        }
+    }
+
+    private long build(int lo, int hi) {
+        if (lo >= hi) {
+            return Long.MIN_VALUE;
+        }
+
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(build(lo, mid), build(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void visit(int lo, int hi, long from, long last, Consumer<? super T> consumer) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (maxEnds[mid] <= from) {
+                return;
+            }
+
+            visit(lo, mid, from, last, consumer);
+
+            if (starts[mid] > last) {
+                return;
+            }
+
+            if (ends[mid] > from) {
+                consumer.accept((T) cues[mid]);
+            }
+
+            lo = mid + 1;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.killergerbah.jsubtitle.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.killergerbah.jsubtitle.Anomaly")
+@Label("Subtitle Anomaly")
+@Category("JSubtitle")
+@StackTrace(false)
+final class AnomalyEvent extends Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Line Number")
+    int lineNumber;
+
+    @Label("Reason")
+    String reason;
+
+    @Label("Line")
+    String line;
+}
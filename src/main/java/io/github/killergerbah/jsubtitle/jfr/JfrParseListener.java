@@ -0,0 +1,94 @@
+package io.github.killergerbah.jsubtitle.jfr;
+
+import io.github.killergerbah.jsubtitle.ParseListener;
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+
+public final class JfrParseListener implements ParseListener {
+
+    public static final JfrParseListener INSTANCE = new JfrParseListener();
+
+    private static final int MAX_LINE_LENGTH = 256;
+
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
+
+    private JfrParseListener() {
+    }
+
+    @Override
+    public void parseStarted(SubtitleFormat format) {
+        var event = new ParseEvent();
+
+        if (event.isEnabled()) {
+            event.begin();
+            var current = state.get();
+            current.parse = event;
+            current.anomalies = 0;
+        }
+    }
+
+    @Override
+    public void sectionStarted(SubtitleFormat format, String section, int lineNumber) {
+        var event = new SectionEvent();
+
+        if (event.isEnabled()) {
+            event.begin();
+            state.get().section = event;
+        }
+    }
+
+    @Override
+    public void sectionFinished(SubtitleFormat format, String section, int lines, int entries, long nanos) {
+        var current = state.get();
+        var event = current.section == null ? new SectionEvent() : current.section;
+        current.section = null;
+
+        if (event.shouldCommit()) {
+            event.format = format.name();
+            event.section = section;
+            event.lines = lines;
+            event.entries = entries;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void anomaly(SubtitleFormat format, int lineNumber, String reason, String line) {
+        ++state.get().anomalies;
+        var event = new AnomalyEvent();
+
+        if (event.shouldCommit()) {
+            event.format = format.name();
+            event.lineNumber = lineNumber;
+            event.reason = reason;
+            event.line = line == null || line.length() <= MAX_LINE_LENGTH ? line : line.substring(0, MAX_LINE_LENGTH);
+            event.commit();
+        }
+    }
+
+    @Override
+    public void parseFinished(SubtitleFormat format, long bytes, int lines, int cues, long readNanos, long parseNanos) {
+        var current = state.get();
+        var event = current.parse == null ? new ParseEvent() : current.parse;
+        current.parse = null;
+
+        if (event.shouldCommit()) {
+            event.format = format.name();
+            event.bytes = bytes;
+            event.lines = lines;
+            event.cues = cues;
+            event.readTime = readNanos;
+            event.parseTime = parseNanos;
+            event.anomalies = current.anomalies;
+            event.commit();
+        }
+
+        current.anomalies = 0;
+    }
+
+    private static final class State {
+
+        private ParseEvent parse;
+        private SectionEvent section;
+        private int anomalies;
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.killergerbah.jsubtitle.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+@Name("io.github.killergerbah.jsubtitle.Parse")
+@Label("Subtitle Parse")
+@Category("JSubtitle")
+final class ParseEvent extends Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Lines")
+    int lines;
+
+    @Label("Cues")
+    int cues;
+
+    @Label("Read Time")
+    @Timespan
+    long readTime;
+
+    @Label("Parse Time")
+    @Timespan
+    long parseTime;
+
+    @Label("Anomalies")
+    int anomalies;
+}
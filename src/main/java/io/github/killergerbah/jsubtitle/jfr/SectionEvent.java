@@ -0,0 +1,26 @@
+package io.github.killergerbah.jsubtitle.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("io.github.killergerbah.jsubtitle.Section")
+@Label("Subtitle Section")
+@Category("JSubtitle")
+@StackTrace(false)
+final class SectionEvent extends Event {
+
+    @Label("Format")
+    String format;
+
+    @Label("Section")
+    String section;
+
+    @Label("Lines")
+    int lines;
+
+    @Label("Entries")
+    int entries;
+}
@@ -0,0 +1,42 @@
+package io.github.killergerbah.jsubtitle.merge;
+
+import io.github.killergerbah.jsubtitle.Cue;
+
+import java.util.Iterator;
+
+final class CueSource<T extends Cue> {
+
+    private final Iterator<? extends T> cues;
+
+    private T next;
+    private long lastStart = Long.MIN_VALUE;
+
+    CueSource(Iterator<? extends T> cues) {
+        this.cues = cues;
+    }
+
+    T peek() {
+        if (next == null && cues.hasNext()) {
+            next = cues.next();
+
+            if (next.getStart() < lastStart) {
+                throw new IllegalArgumentException("Cues are not sorted by start time: " + next.getStart() + " after " + lastStart);
+            }
+
+            lastStart = next.getStart();
+        }
+
+        return next;
+    }
+
+    long peekStart() {
+        var cue = peek();
+        return cue == null ? Long.MAX_VALUE : cue.getStart();
+    }
+
+    T take() {
+        var cue = peek();
+        next = null;
+        return cue;
+    }
+}
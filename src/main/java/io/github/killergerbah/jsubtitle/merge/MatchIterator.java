@@ -0,0 +1,100 @@
+package io.github.killergerbah.jsubtitle.merge;
+
+import io.github.killergerbah.jsubtitle.Cue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+final class MatchIterator<A extends Cue, B extends Cue> implements Iterator<TrackMerger.Match<A, B>> {
+
+    private static final int MIN_LIMIT = 16;
+
+    private final TrackMerger merger;
+    private final CueSource<A> first;
+    private final CueSource<B> second;
+    private final List<A> activeFirst = new ArrayList<>();
+    private final List<B> activeSecond = new ArrayList<>();
+    private final ArrayDeque<TrackMerger.Match<A, B>> pending = new ArrayDeque<>();
+
+    private int firstLimit = MIN_LIMIT;
+    private int secondLimit = MIN_LIMIT;
+
+    MatchIterator(TrackMerger merger, CueSource<A> first, CueSource<B> second) {
+        this.merger = merger;
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (pending.isEmpty() && advance()) {
+        }
+
+        return !pending.isEmpty();
+    }
+
+    @Override
+    public TrackMerger.Match<A, B> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return pending.poll();
+    }
+
+    private boolean advance() {
+        long firstStart = first.peekStart();
+        long secondStart = second.peekStart();
+
+        if (firstStart == Long.MAX_VALUE && secondStart == Long.MAX_VALUE) {
+            return false;
+        }
+
+        if (firstStart <= secondStart) {
+            var cue = first.take();
+            evict(activeSecond, cue.getStart());
+
+            for (var other : activeSecond) {
+                if (merger.accepts(cue, other)) {
+                    pending.add(new TrackMerger.Match<>(cue, other, merger.getSeparator()));
+                }
+            }
+
+            if (cue.getEnd() > cue.getStart() && second.peek() != null) {
+                firstLimit = add(activeFirst, cue, firstLimit);
+            }
+        } else {
+            var cue = second.take();
+            evict(activeFirst, cue.getStart());
+
+            for (var other : activeFirst) {
+                if (merger.accepts(other, cue)) {
+                    pending.add(new TrackMerger.Match<>(other, cue, merger.getSeparator()));
+                }
+            }
+
+            if (cue.getEnd() > cue.getStart() && first.peek() != null) {
+                secondLimit = add(activeSecond, cue, secondLimit);
+            }
+        }
+
+        return true;
+    }
+
+    private static <T extends Cue> int add(List<T> active, T cue, int limit) {
+        if (active.size() >= limit) {
+            evict(active, cue.getStart());
+            limit = Math.max(MIN_LIMIT, active.size() * 2);
+        }
+
+        active.add(cue);
+        return limit;
+    }
+
+    private static void evict(List<? extends Cue> active, long time) {
+        active.removeIf(cue -> cue.getEnd() <= time);
+    }
+}
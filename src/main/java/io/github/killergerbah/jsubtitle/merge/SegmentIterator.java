@@ -0,0 +1,91 @@
+package io.github.killergerbah.jsubtitle.merge;
+
+import io.github.killergerbah.jsubtitle.Cue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+final class SegmentIterator<A extends Cue, B extends Cue> implements Iterator<TrackMerger.Segment<A, B>> {
+
+    private final TrackMerger merger;
+    private final CueSource<A> first;
+    private final CueSource<B> second;
+    private final List<A> activeFirst = new ArrayList<>();
+    private final List<B> activeSecond = new ArrayList<>();
+    private final PriorityQueue<Cue> ends = new PriorityQueue<>(Comparator.comparingLong(Cue::getEnd));
+
+    private long position = Long.MIN_VALUE;
+    private TrackMerger.Segment<A, B> next;
+
+    SegmentIterator(TrackMerger merger, CueSource<A> first, CueSource<B> second) {
+        this.merger = merger;
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && advance()) {
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public TrackMerger.Segment<A, B> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var segment = next;
+        next = null;
+        return segment;
+    }
+
+    private boolean advance() {
+        long boundary = Math.min(Math.min(first.peekStart(), second.peekStart()), ends.isEmpty() ? Long.MAX_VALUE : ends.peek().getEnd());
+
+        if (boundary == Long.MAX_VALUE) {
+            return false;
+        }
+
+        if (!ends.isEmpty() && boundary > position) {
+            next = new TrackMerger.Segment<>(position, boundary, List.copyOf(activeFirst), List.copyOf(activeSecond), merger.getSeparator());
+        }
+
+        position = boundary;
+
+        if (!ends.isEmpty() && ends.peek().getEnd() <= position) {
+            while (!ends.isEmpty() && ends.peek().getEnd() <= position) {
+                ends.poll();
+            }
+
+            activeFirst.removeIf(cue -> cue.getEnd() <= position);
+            activeSecond.removeIf(cue -> cue.getEnd() <= position);
+        }
+
+        while (first.peekStart() == position) {
+            var cue = first.take();
+
+            if (cue.getEnd() > position) {
+                activeFirst.add(cue);
+                ends.add(cue);
+            }
+        }
+
+        while (second.peekStart() == position) {
+            var cue = second.take();
+
+            if (cue.getEnd() > position) {
+                activeSecond.add(cue);
+                ends.add(cue);
+            }
+        }
+
+        return true;
+    }
+}
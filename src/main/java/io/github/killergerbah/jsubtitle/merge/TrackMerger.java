@@ -0,0 +1,228 @@
+package io.github.killergerbah.jsubtitle.merge;
+
+import io.github.killergerbah.jsubtitle.Cue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+public final class TrackMerger {
+
+    public static final TrackMerger DEFAULT = builder().build();
+
+    private static final Comparator<Cue> BY_START = Comparator.comparingLong(Cue::getStart);
+
+    private final long minOverlap;
+    private final double minOverlapRatio;
+    private final String separator;
+
+    private TrackMerger(Builder builder) {
+        minOverlap = builder.minOverlap;
+        minOverlapRatio = builder.minOverlapRatio;
+        separator = builder.separator;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long getMinOverlap() {
+        return minOverlap;
+    }
+
+    public double getMinOverlapRatio() {
+        return minOverlapRatio;
+    }
+
+    public String getSeparator() {
+        return separator;
+    }
+
+    public <A extends Cue, B extends Cue> List<Match<A, B>> match(Collection<? extends A> first, Collection<? extends B> second) {
+        var matches = new ArrayList<Match<A, B>>();
+        List<A> sortedFirst = sorted(first);
+        List<B> sortedSecond = sorted(second);
+        match(sortedFirst.iterator(), sortedSecond.iterator()).forEachRemaining(matches::add);
+        return matches;
+    }
+
+    public <A extends Cue, B extends Cue> Iterator<Match<A, B>> match(Iterator<? extends A> first, Iterator<? extends B> second) {
+        return new MatchIterator<>(this, new CueSource<>(first), new CueSource<>(second));
+    }
+
+    public <A extends Cue, B extends Cue> List<Segment<A, B>> union(Collection<? extends A> first, Collection<? extends B> second) {
+        var segments = new ArrayList<Segment<A, B>>();
+        List<A> sortedFirst = sorted(first);
+        List<B> sortedSecond = sorted(second);
+        union(sortedFirst.iterator(), sortedSecond.iterator()).forEachRemaining(segments::add);
+        return segments;
+    }
+
+    public <A extends Cue, B extends Cue> Iterator<Segment<A, B>> union(Iterator<? extends A> first, Iterator<? extends B> second) {
+        return new SegmentIterator<>(this, new CueSource<>(first), new CueSource<>(second));
+    }
+
+    boolean accepts(Cue first, Cue second) {
+        long overlap = Math.min(first.getEnd(), second.getEnd()) - Math.max(first.getStart(), second.getStart());
+
+        if (overlap <= 0 || overlap < minOverlap) {
+            return false;
+        }
+
+        long shorter = Math.min(first.getEnd() - first.getStart(), second.getEnd() - second.getStart());
+        return overlap >= minOverlapRatio * shorter;
+    }
+
+    private static <T extends Cue> List<T> sorted(Collection<? extends T> cues) {
+        var sorted = new ArrayList<T>(cues);
+        sorted.sort(BY_START);
+        return sorted;
+    }
+
+    private static String join(List<? extends Cue> first, List<? extends Cue> second, String separator) {
+        var builder = new StringBuilder();
+
+        for (var cue : first) {
+            append(builder, cue, separator);
+        }
+
+        for (var cue : second) {
+            append(builder, cue, separator);
+        }
+
+        return builder.toString();
+    }
+
+    private static void append(StringBuilder builder, Cue cue, String separator) {
+        if (builder.length() > 0) {
+            builder.append(separator);
+        }
+
+        builder.append(cue.getText());
+    }
+
+    public static final class Builder {
+
+        private long minOverlap = 1;
+        private double minOverlapRatio;
+        private String separator = "\n";
+
+        private Builder() {
+        }
+
+        public Builder minOverlap(long minOverlap) {
+            this.minOverlap = minOverlap;
+            return this;
+        }
+
+        public Builder minOverlapRatio(double minOverlapRatio) {
+            if (minOverlapRatio < 0 || minOverlapRatio > 1) {
+                throw new IllegalArgumentException("Overlap ratio must be between 0 and 1: " + minOverlapRatio);
+            }
+
+            this.minOverlapRatio = minOverlapRatio;
+            return this;
+        }
+
+        public Builder separator(String separator) {
+            this.separator = separator;
+            return this;
+        }
+
+        public TrackMerger build() {
+            return new TrackMerger(this);
+        }
+    }
+
+    public static final class Match<A extends Cue, B extends Cue> implements Cue {
+
+        private final A first;
+        private final B second;
+        private final String separator;
+
+        Match(A first, B second, String separator) {
+            this.first = first;
+            this.second = second;
+            this.separator = separator;
+        }
+
+        public A getFirst() {
+            return first;
+        }
+
+        public B getSecond() {
+            return second;
+        }
+
+        @Override
+        public long getStart() {
+            return Math.max(first.getStart(), second.getStart());
+        }
+
+        @Override
+        public long getEnd() {
+            return Math.min(first.getEnd(), second.getEnd());
+        }
+
+        public long getOverlap() {
+            return getEnd() - getStart();
+        }
+
+        @Override
+        public String getText() {
+            return first.getText() + separator + second.getText();
+        }
+
+        @Override
+        public String toString() {
+            return "Match{first=" + first + ", second=" + second + "}";
+        }
+    }
+
+    public static final class Segment<A extends Cue, B extends Cue> implements Cue {
+
+        private final long start;
+        private final long end;
+        private final List<A> first;
+        private final List<B> second;
+        private final String separator;
+
+        Segment(long start, long end, List<A> first, List<B> second, String separator) {
+            this.start = start;
+            this.end = end;
+            this.first = first;
+            this.second = second;
+            this.separator = separator;
+        }
+
+        @Override
+        public long getStart() {
+            return start;
+        }
+
+        @Override
+        public long getEnd() {
+            return end;
+        }
+
+        public List<A> getFirst() {
+            return first;
+        }
+
+        public List<B> getSecond() {
+            return second;
+        }
+
+        @Override
+        public String getText() {
+            return join(first, second, separator);
+        }
+
+        @Override
+        public String toString() {
+            return "Segment{start=" + start + ", end=" + end + ", first=" + first + ", second=" + second + "}";
+        }
+    }
+}
@@ -0,0 +1,529 @@
+package io.github.killergerbah.jsubtitle.snapshot;
+
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.ass.DialogueEvent;
+import io.github.killergerbah.jsubtitle.ass.EventSection;
+import io.github.killergerbah.jsubtitle.ass.ScriptInfoSection;
+import io.github.killergerbah.jsubtitle.ass.StyleSection;
+import io.github.killergerbah.jsubtitle.ass.StyleTable;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+final class MappedAssFile implements AssFile {
+
+    private final ScriptInfoSection scriptInfoSection;
+    private final StyleSection styleSection;
+    private final EventSection eventSection;
+
+    private MappedAssFile(ScriptInfoSection scriptInfoSection, StyleSection styleSection, EventSection eventSection) {
+        this.scriptInfoSection = scriptInfoSection;
+        this.styleSection = styleSection;
+        this.eventSection = eventSection;
+    }
+
+    static MappedAssFile from(ByteBuffer buffer) {
+        int sections = buffer.get();
+        var scriptInfo = (sections & SnapshotWriter.SCRIPT_INFO) == 0 ? null : new ScriptInfo(buffer);
+        var style = (sections & SnapshotWriter.STYLE) == 0 ? null : Style.section(buffer);
+        var symbols = new String[SubtitleSnapshot.count(buffer, buffer.getInt(), Integer.BYTES)];
+
+        for (int i = 0; i < symbols.length; ++i) {
+            symbols[i] = SubtitleSnapshot.string(buffer);
+        }
+
+        var events = new Events(buffer, symbols, style == null ? null : style.getStyles());
+        return new MappedAssFile(scriptInfo, style, (sections & SnapshotWriter.EVENTS) == 0 ? null : events);
+    }
+
+    @Override
+    public ScriptInfoSection getScriptInfoSection() {
+        return scriptInfoSection;
+    }
+
+    @Override
+    public StyleSection getStyleSection() {
+        return styleSection;
+    }
+
+    @Override
+    public EventSection getEventSection() {
+        return eventSection;
+    }
+
+    private static final class ScriptInfo implements ScriptInfoSection {
+
+        private final List<String> comments;
+        private final String title;
+        private final String originalScript;
+        private final String originalTranslation;
+        private final String originalEditing;
+        private final String originalTiming;
+        private final String synchPoint;
+        private final String scriptUpdatedBy;
+        private final String updateDetails;
+        private final String scriptType;
+        private final String collisions;
+        private final int playResX;
+        private final int playResY;
+        private final int playDepth;
+        private final double timer;
+
+        ScriptInfo(ByteBuffer buffer) {
+            int commentCount = buffer.getInt();
+
+            if (commentCount == -1) {
+                comments = null;
+            } else {
+                comments = new ArrayList<>(SubtitleSnapshot.count(buffer, commentCount, Integer.BYTES));
+
+                for (int i = 0; i < commentCount; ++i) {
+                    comments.add(SubtitleSnapshot.string(buffer));
+                }
+            }
+
+            title = SubtitleSnapshot.string(buffer);
+            originalScript = SubtitleSnapshot.string(buffer);
+            originalTranslation = SubtitleSnapshot.string(buffer);
+            originalEditing = SubtitleSnapshot.string(buffer);
+            originalTiming = SubtitleSnapshot.string(buffer);
+            synchPoint = SubtitleSnapshot.string(buffer);
+            scriptUpdatedBy = SubtitleSnapshot.string(buffer);
+            updateDetails = SubtitleSnapshot.string(buffer);
+            scriptType = SubtitleSnapshot.string(buffer);
+            collisions = SubtitleSnapshot.string(buffer);
+            playResX = buffer.getInt();
+            playResY = buffer.getInt();
+            playDepth = buffer.getInt();
+            timer = buffer.getDouble();
+        }
+
+        @Override
+        public List<String> getComments() {
+            return comments;
+        }
+
+        @Override
+        public String getTitle() {
+            return title;
+        }
+
+        @Override
+        public String getOriginalScript() {
+            return originalScript;
+        }
+
+        @Override
+        public String getOriginalTranslation() {
+            return originalTranslation;
+        }
+
+        @Override
+        public String getOriginalEditing() {
+            return originalEditing;
+        }
+
+        @Override
+        public String getOriginalTiming() {
+            return originalTiming;
+        }
+
+        @Override
+        public String getSynchPoint() {
+            return synchPoint;
+        }
+
+        @Override
+        public String getScriptUpdatedBy() {
+            return scriptUpdatedBy;
+        }
+
+        @Override
+        public String getUpdateDetails() {
+            return updateDetails;
+        }
+
+        @Override
+        public String getScriptType() {
+            return scriptType;
+        }
+
+        @Override
+        public String getCollisions() {
+            return collisions;
+        }
+
+        @Override
+        public int getPlayResX() {
+            return playResX;
+        }
+
+        @Override
+        public int getPlayResY() {
+            return playResY;
+        }
+
+        @Override
+        public int getPlayDepth() {
+            return playDepth;
+        }
+
+        @Override
+        public double getTimer() {
+            return timer;
+        }
+    }
+
+    private static final class Style implements StyleSection {
+
+        private final String name;
+        private final String fontName;
+        private final double fontSize;
+        private final String primaryColor;
+        private final String secondaryColor;
+        private final String outlineColor;
+        private final String backColor;
+        private final boolean bold;
+        private final boolean italic;
+        private final boolean underline;
+        private final boolean strikeOut;
+        private final double scaleX;
+        private final double scaleY;
+        private final double spacing;
+        private final double angle;
+        private final int borderStyle;
+        private final double outline;
+        private final double shadow;
+        private final int alignment;
+        private final int marginL;
+        private final int marginR;
+        private final int marginV;
+        private final int alphaLevel;
+        private final int encoding;
+        private StyleTable styles;
+
+        Style(ByteBuffer buffer) {
+            name = SubtitleSnapshot.string(buffer);
+            fontName = SubtitleSnapshot.string(buffer);
+            fontSize = buffer.getDouble();
+            primaryColor = SubtitleSnapshot.string(buffer);
+            secondaryColor = SubtitleSnapshot.string(buffer);
+            outlineColor = SubtitleSnapshot.string(buffer);
+            backColor = SubtitleSnapshot.string(buffer);
+            bold = buffer.get() != 0;
+            italic = buffer.get() != 0;
+            underline = buffer.get() != 0;
+            strikeOut = buffer.get() != 0;
+            scaleX = buffer.getDouble();
+            scaleY = buffer.getDouble();
+            spacing = buffer.getDouble();
+            angle = buffer.getDouble();
+            borderStyle = buffer.getInt();
+            outline = buffer.getDouble();
+            shadow = buffer.getDouble();
+            alignment = buffer.getInt();
+            marginL = buffer.getInt();
+            marginR = buffer.getInt();
+            marginV = buffer.getInt();
+            alphaLevel = buffer.getInt();
+            encoding = buffer.getInt();
+        }
+
+        static Style section(ByteBuffer buffer) {
+            var section = new Style(buffer);
+            var styles = new ArrayList<Style>();
+            int count = buffer.getInt();
+
+            for (int i = 0; i < count; ++i) {
+                styles.add(new Style(buffer));
+            }
+
+            section.styles = StyleTable.of(styles);
+            return section;
+        }
+
+        @Override
+        public StyleTable getStyles() {
+            return styles;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getFontName() {
+            return fontName;
+        }
+
+        @Override
+        public double getFontSize() {
+            return fontSize;
+        }
+
+        @Override
+        public String getPrimaryColor() {
+            return primaryColor;
+        }
+
+        @Override
+        public String getSecondaryColor() {
+            return secondaryColor;
+        }
+
+        @Override
+        public String getOutlineColor() {
+            return outlineColor;
+        }
+
+        @Override
+        public String getBackColor() {
+            return backColor;
+        }
+
+        @Override
+        public boolean isBold() {
+            return bold;
+        }
+
+        @Override
+        public boolean isItalic() {
+            return italic;
+        }
+
+        @Override
+        public boolean isUnderline() {
+            return underline;
+        }
+
+        @Override
+        public boolean isStrikeOut() {
+            return strikeOut;
+        }
+
+        @Override
+        public double getScaleX() {
+            return scaleX;
+        }
+
+        @Override
+        public double getScaleY() {
+            return scaleY;
+        }
+
+        @Override
+        public double getSpacing() {
+            return spacing;
+        }
+
+        @Override
+        public double getAngle() {
+            return angle;
+        }
+
+        @Override
+        public int getBorderStyle() {
+            return borderStyle;
+        }
+
+        @Override
+        public double getOutline() {
+            return outline;
+        }
+
+        @Override
+        public double getShadow() {
+            return shadow;
+        }
+
+        @Override
+        public int getAlignment() {
+            return alignment;
+        }
+
+        @Override
+        public int getMarginL() {
+            return marginL;
+        }
+
+        @Override
+        public int getMarginR() {
+            return marginR;
+        }
+
+        @Override
+        public int getMarginV() {
+            return marginV;
+        }
+
+        @Override
+        public int getAlphaLevel() {
+            return alphaLevel;
+        }
+
+        @Override
+        public int getEncoding() {
+            return encoding;
+        }
+    }
+
+    private static final class Events extends AbstractList<DialogueEvent> implements EventSection, RandomAccess {
+
+        private final String[] symbols;
+        private final int[] styleIndexes;
+        private final int size;
+        private final LongBuffer starts;
+        private final LongBuffer ends;
+        private final IntBuffer layers;
+        private final IntBuffer styles;
+        private final IntBuffer names;
+        private final IntBuffer marginLs;
+        private final IntBuffer marginRs;
+        private final IntBuffer marginVs;
+        private final IntBuffer effects;
+        private final IntBuffer textOffsets;
+        private final ByteBuffer flags;
+        private final ByteBuffer texts;
+
+        Events(ByteBuffer buffer, String[] symbols, StyleTable styleTable) {
+            this.symbols = symbols;
+            styleIndexes = new int[symbols.length];
+
+            for (int i = 0; i < symbols.length; ++i) {
+                styleIndexes[i] = styleTable == null ? -1 : styleTable.indexOf(symbols[i]);
+            }
+
+            size = buffer.getInt();
+            SubtitleSnapshot.align(buffer);
+            starts = SubtitleSnapshot.column(buffer, size, Long.BYTES).asLongBuffer();
+            ends = SubtitleSnapshot.column(buffer, size, Long.BYTES).asLongBuffer();
+            layers = ints(buffer, size);
+            styles = ints(buffer, size);
+            names = ints(buffer, size);
+            marginLs = ints(buffer, size);
+            marginRs = ints(buffer, size);
+            marginVs = ints(buffer, size);
+            effects = ints(buffer, size);
+            textOffsets = ints(buffer, size + 1);
+            flags = SubtitleSnapshot.column(buffer, size, Byte.BYTES);
+            texts = buffer.slice();
+
+            for (var column : List.of(styles, names, marginLs, marginRs, marginVs, effects)) {
+                SubtitleSnapshot.checkRange(column, -1, symbols.length);
+            }
+
+            SubtitleSnapshot.checkOffsets(textOffsets, texts.limit());
+        }
+
+        private static IntBuffer ints(ByteBuffer buffer, int count) {
+            return SubtitleSnapshot.column(buffer, count, Integer.BYTES).asIntBuffer();
+        }
+
+        @Override
+        public List<DialogueEvent> getEvents() {
+            return this;
+        }
+
+        @Override
+        public DialogueEvent get(int index) {
+            checkIndex(index);
+            return new EventView(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private void checkIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            }
+        }
+
+        private String symbol(IntBuffer column, int index) {
+            int symbol = column.get(index);
+            return symbol == -1 ? null : symbols[symbol];
+        }
+
+        private final class EventView implements DialogueEvent {
+
+            private final int index;
+
+            EventView(int index) {
+                this.index = index;
+            }
+
+            @Override
+            public boolean isMarked() {
+                return (flags.get(index) & SnapshotWriter.MARKED) != 0;
+            }
+
+            @Override
+            public int getLayer() {
+                return layers.get(index);
+            }
+
+            @Override
+            public long getStart() {
+                return starts.get(index);
+            }
+
+            @Override
+            public long getEnd() {
+                return ends.get(index);
+            }
+
+            @Override
+            public String getStyle() {
+                return symbol(styles, index);
+            }
+
+            @Override
+            public int getStyleIndex() {
+                int symbol = styles.get(index);
+                return symbol == -1 ? -1 : styleIndexes[symbol];
+            }
+
+            @Override
+            public String getName() {
+                return symbol(names, index);
+            }
+
+            @Override
+            public String getMarginL() {
+                return symbol(marginLs, index);
+            }
+
+            @Override
+            public String getMarginR() {
+                return symbol(marginRs, index);
+            }
+
+            @Override
+            public String getMarginV() {
+                return symbol(marginVs, index);
+            }
+
+            @Override
+            public String getEffect() {
+                return symbol(effects, index);
+            }
+
+            @Override
+            public String getText() {
+                if ((flags.get(index) & SnapshotWriter.NULL_TEXT) != 0) {
+                    return null;
+                }
+
+                return SubtitleSnapshot.utf8(texts, textOffsets.get(index), textOffsets.get(index + 1));
+            }
+        }
+    }
+}
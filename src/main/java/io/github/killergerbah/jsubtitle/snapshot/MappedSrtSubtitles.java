@@ -0,0 +1,80 @@
+package io.github.killergerbah.jsubtitle.snapshot;
+
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+final class MappedSrtSubtitles extends AbstractList<SrtSubtitle> implements RandomAccess {
+
+    private final int size;
+    private final LongBuffer starts;
+    private final LongBuffer ends;
+    private final IntBuffer indexes;
+    private final IntBuffer textOffsets;
+    private final ByteBuffer texts;
+
+    private MappedSrtSubtitles(ByteBuffer buffer) {
+        size = buffer.getInt();
+        SubtitleSnapshot.align(buffer);
+        starts = SubtitleSnapshot.column(buffer, size, Long.BYTES).asLongBuffer();
+        ends = SubtitleSnapshot.column(buffer, size, Long.BYTES).asLongBuffer();
+        indexes = SubtitleSnapshot.column(buffer, size, Integer.BYTES).asIntBuffer();
+        textOffsets = SubtitleSnapshot.column(buffer, size + 1, Integer.BYTES).asIntBuffer();
+        texts = buffer.slice();
+        SubtitleSnapshot.checkOffsets(textOffsets, texts.limit());
+    }
+
+    static MappedSrtSubtitles from(ByteBuffer buffer) {
+        return new MappedSrtSubtitles(buffer);
+    }
+
+    @Override
+    public SrtSubtitle get(int index) {
+        checkIndex(index);
+        return new SubtitleView(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private final class SubtitleView implements SrtSubtitle {
+
+        private final int index;
+
+        SubtitleView(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int getIndex() {
+            return indexes.get(index);
+        }
+
+        @Override
+        public long getStart() {
+            return starts.get(index);
+        }
+
+        @Override
+        public long getEnd() {
+            return ends.get(index);
+        }
+
+        @Override
+        public String getText() {
+            return SubtitleSnapshot.utf8(texts, textOffsets.get(index), textOffsets.get(index + 1));
+        }
+    }
+}
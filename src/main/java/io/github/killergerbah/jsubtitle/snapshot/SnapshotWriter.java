@@ -0,0 +1,279 @@
+package io.github.killergerbah.jsubtitle.snapshot;
+
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.ass.DialogueEvent;
+import io.github.killergerbah.jsubtitle.ass.ScriptInfoSection;
+import io.github.killergerbah.jsubtitle.ass.Style;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SnapshotWriter {
+
+    static final int SCRIPT_INFO = 1;
+    static final int STYLE = 2;
+    static final int EVENTS = 4;
+
+    static final int MARKED = 1;
+    static final int NULL_TEXT = 2;
+
+    private SnapshotWriter() {
+    }
+
+    static void write(AssFile assFile, File file) throws IOException {
+        var scriptInfo = assFile.getScriptInfoSection();
+        var style = assFile.getStyleSection();
+        var eventSection = assFile.getEventSection();
+        List<DialogueEvent> events = eventSection == null ? List.of() : eventSection.getEvents();
+        int n = events.size();
+
+        var symbols = new HashMap<String, Integer>();
+        var symbolList = new ArrayList<String>();
+        var symbolColumns = new int[6][n];
+        var layers = new int[n];
+        var flags = new byte[n];
+        var textOffsets = new int[n + 1];
+        var texts = new ByteArrayOutputStream();
+
+        for (int i = 0; i < n; ++i) {
+            var event = events.get(i);
+            layers[i] = event.getLayer();
+            symbolColumns[0][i] = symbol(symbols, symbolList, event.getStyle());
+            symbolColumns[1][i] = symbol(symbols, symbolList, event.getName());
+            symbolColumns[2][i] = symbol(symbols, symbolList, event.getMarginL());
+            symbolColumns[3][i] = symbol(symbols, symbolList, event.getMarginR());
+            symbolColumns[4][i] = symbol(symbols, symbolList, event.getMarginV());
+            symbolColumns[5][i] = symbol(symbols, symbolList, event.getEffect());
+
+            var text = event.getText();
+            flags[i] = (byte) ((event.isMarked() ? MARKED : 0) | (text == null ? NULL_TEXT : 0));
+
+            if (text != null) {
+                texts.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+            }
+
+            textOffsets[i + 1] = texts.size();
+        }
+
+        var temp = temp(file);
+
+        try {
+            try (var out = open(temp, SubtitleFormat.ASS)) {
+                out.writeByte((scriptInfo == null ? 0 : SCRIPT_INFO) | (style == null ? 0 : STYLE) | (eventSection == null ? 0 : EVENTS));
+
+                if (scriptInfo != null) {
+                    writeScriptInfo(out, scriptInfo);
+                }
+
+                if (style != null) {
+                    var styles = style.getStyles();
+                    writeStyle(out, style);
+                    out.writeInt(styles.size());
+
+                    for (int i = 0; i < styles.size(); ++i) {
+                        writeStyle(out, styles.get(i));
+                    }
+                }
+
+                out.writeInt(symbolList.size());
+
+                for (var symbol : symbolList) {
+                    writeString(out, symbol);
+                }
+
+                out.writeInt(n);
+                pad(out);
+
+                for (var event : events) {
+                    out.writeLong(event.getStart());
+                }
+
+                for (var event : events) {
+                    out.writeLong(event.getEnd());
+                }
+
+                writeInts(out, layers);
+
+                for (var column : symbolColumns) {
+                    writeInts(out, column);
+                }
+
+                writeInts(out, textOffsets);
+                out.write(flags);
+                texts.writeTo(out);
+            }
+
+            move(temp, file);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    static void write(List<? extends SrtSubtitle> subtitles, File file) throws IOException {
+        int n = subtitles.size();
+        var textOffsets = new int[n + 1];
+        var texts = new ByteArrayOutputStream();
+
+        for (int i = 0; i < n; ++i) {
+            texts.writeBytes(subtitles.get(i).getText().getBytes(StandardCharsets.UTF_8));
+            textOffsets[i + 1] = texts.size();
+        }
+
+        var temp = temp(file);
+
+        try {
+            try (var out = open(temp, SubtitleFormat.SRT)) {
+                out.writeInt(n);
+                pad(out);
+
+                for (var subtitle : subtitles) {
+                    out.writeLong(subtitle.getStart());
+                }
+
+                for (var subtitle : subtitles) {
+                    out.writeLong(subtitle.getEnd());
+                }
+
+                for (var subtitle : subtitles) {
+                    out.writeInt(subtitle.getIndex());
+                }
+
+                writeInts(out, textOffsets);
+                texts.writeTo(out);
+            }
+
+            move(temp, file);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static Path temp(File file) throws IOException {
+        var target = file.toPath().toAbsolutePath();
+        return Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+    }
+
+    private static void move(Path temp, File file) throws IOException {
+        try (var channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static DataOutputStream open(Path file, SubtitleFormat format) throws IOException {
+        var out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file.toFile()), 1 << 16));
+        out.writeInt(SubtitleSnapshot.MAGIC);
+        out.writeShort(SubtitleSnapshot.VERSION);
+        out.writeShort(format.ordinal());
+        return out;
+    }
+
+    private static void writeScriptInfo(DataOutputStream out, ScriptInfoSection scriptInfo) throws IOException {
+        var comments = scriptInfo.getComments();
+        out.writeInt(comments == null ? -1 : comments.size());
+
+        if (comments != null) {
+            for (var comment : comments) {
+                writeString(out, comment);
+            }
+        }
+
+        writeString(out, scriptInfo.getTitle());
+        writeString(out, scriptInfo.getOriginalScript());
+        writeString(out, scriptInfo.getOriginalTranslation());
+        writeString(out, scriptInfo.getOriginalEditing());
+        writeString(out, scriptInfo.getOriginalTiming());
+        writeString(out, scriptInfo.getSynchPoint());
+        writeString(out, scriptInfo.getScriptUpdatedBy());
+        writeString(out, scriptInfo.getUpdateDetails());
+        writeString(out, scriptInfo.getScriptType());
+        writeString(out, scriptInfo.getCollisions());
+        out.writeInt(scriptInfo.getPlayResX());
+        out.writeInt(scriptInfo.getPlayResY());
+        out.writeInt(scriptInfo.getPlayDepth());
+        out.writeDouble(scriptInfo.getTimer());
+    }
+
+    private static void writeStyle(DataOutputStream out, Style style) throws IOException {
+        writeString(out, style.getName());
+        writeString(out, style.getFontName());
+        out.writeDouble(style.getFontSize());
+        writeString(out, style.getPrimaryColor());
+        writeString(out, style.getSecondaryColor());
+        writeString(out, style.getOutlineColor());
+        writeString(out, style.getBackColor());
+        out.writeBoolean(style.isBold());
+        out.writeBoolean(style.isItalic());
+        out.writeBoolean(style.isUnderline());
+        out.writeBoolean(style.isStrikeOut());
+        out.writeDouble(style.getScaleX());
+        out.writeDouble(style.getScaleY());
+        out.writeDouble(style.getSpacing());
+        out.writeDouble(style.getAngle());
+        out.writeInt(style.getBorderStyle());
+        out.writeDouble(style.getOutline());
+        out.writeDouble(style.getShadow());
+        out.writeInt(style.getAlignment());
+        out.writeInt(style.getMarginL());
+        out.writeInt(style.getMarginR());
+        out.writeInt(style.getMarginV());
+        out.writeInt(style.getAlphaLevel());
+        out.writeInt(style.getEncoding());
+    }
+
+    private static int symbol(Map<String, Integer> symbols, List<String> symbolList, String value) {
+        if (value == null) {
+            return -1;
+        }
+
+        return symbols.computeIfAbsent(value, v -> {
+            symbolList.add(v);
+            return symbolList.size() - 1;
+        });
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void pad(DataOutputStream out) throws IOException {
+        while (out.size() % Long.BYTES != 0) {
+            out.writeByte(0);
+        }
+    }
+}
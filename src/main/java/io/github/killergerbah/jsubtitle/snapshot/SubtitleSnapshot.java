@@ -0,0 +1,161 @@
+package io.github.killergerbah.jsubtitle.snapshot;
+
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public final class SubtitleSnapshot {
+
+    static final int MAGIC = 0x4A535542;
+    static final short VERSION = 2;
+
+    private SubtitleSnapshot() {
+    }
+
+    public static void write(AssFile assFile, File file) throws IOException {
+        SnapshotWriter.write(assFile, file);
+    }
+
+    public static void write(List<? extends SrtSubtitle> subtitles, File file) throws IOException {
+        SnapshotWriter.write(subtitles, file);
+    }
+
+    public static SubtitleFormat format(File file) throws IOException {
+        return header(map(file), file);
+    }
+
+    public static AssFile readAss(File file) throws IOException {
+        var buffer = map(file);
+        expect(header(buffer, file), SubtitleFormat.ASS, file);
+
+        try {
+            return MappedAssFile.from(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw corrupt(file, e);
+        }
+    }
+
+    public static List<SrtSubtitle> readSrt(File file) throws IOException {
+        var buffer = map(file);
+        expect(header(buffer, file), SubtitleFormat.SRT, file);
+
+        try {
+            return MappedSrtSubtitles.from(buffer);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw corrupt(file, e);
+        }
+    }
+
+    static String string(ByteBuffer buffer) {
+        int length = buffer.getInt();
+
+        if (length == -1) {
+            return null;
+        }
+
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        var string = utf8(buffer, buffer.position(), buffer.position() + length);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+
+    static String utf8(ByteBuffer buffer, int from, int to) {
+        var bytes = new byte[to - from];
+        buffer.duplicate().position(from).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static int count(ByteBuffer buffer, int count, int width) {
+        if (count < 0 || count > buffer.remaining() / width) {
+            throw new BufferUnderflowException();
+        }
+
+        return count;
+    }
+
+    static ByteBuffer column(ByteBuffer buffer, int count, int width) {
+        int bytes = count(buffer, count, width) * width;
+        var column = buffer.duplicate().limit(buffer.position() + bytes).slice();
+        buffer.position(buffer.position() + bytes);
+        return column;
+    }
+
+    static void checkRange(IntBuffer column, int from, int to) {
+        for (int i = 0; i < column.limit(); ++i) {
+            int value = column.get(i);
+
+            if (value < from || value >= to) {
+                throw new IndexOutOfBoundsException("Index " + value + " out of bounds for length " + to);
+            }
+        }
+    }
+
+    static void checkOffsets(IntBuffer offsets, int length) {
+        int previous = 0;
+
+        for (int i = 0; i < offsets.limit(); ++i) {
+            int offset = offsets.get(i);
+
+            if (offset < previous || offset > length) {
+                throw new IndexOutOfBoundsException("Index " + offset + " out of bounds for length " + length);
+            }
+
+            previous = offset;
+        }
+    }
+
+    static void align(ByteBuffer buffer) {
+        while (buffer.position() % Long.BYTES != 0) {
+            buffer.get();
+        }
+    }
+
+    private static ByteBuffer map(File file) throws IOException {
+        try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static SubtitleFormat header(ByteBuffer buffer, File file) throws IOException {
+        if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a subtitle snapshot: " + file);
+        }
+
+        short version = buffer.getShort();
+
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version + ": " + file);
+        }
+
+        int format = buffer.getShort();
+
+        if (format < 0 || format >= SubtitleFormat.values().length) {
+            throw new IOException("Unknown snapshot format " + format + ": " + file);
+        }
+
+        return SubtitleFormat.values()[format];
+    }
+
+    private static IOException corrupt(File file, RuntimeException cause) {
+        return new IOException("Corrupt subtitle snapshot: " + file, cause);
+    }
+
+    private static void expect(SubtitleFormat actual, SubtitleFormat expected, File file) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " snapshot but found " + actual + ": " + file);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.util.LineIterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+final class ParallelSrtParser {
+
+    private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+    private ParallelSrtParser() {
+    }
+
+    static List<SrtSubtitle> read(byte[] bytes, ParseOptions options, ForkJoinPool pool) {
+        return read(bytes, options, pool, MIN_CHUNK_SIZE);
+    }
+
+    static List<SrtSubtitle> read(byte[] bytes, ParseOptions options, ForkJoinPool pool, int minChunkSize) {
+        int chunkSize = Math.max(minChunkSize, bytes.length / (pool.getParallelism() * 4));
+        var tasks = new ArrayList<ForkJoinTask<List<SrtSubtitle>>>();
+
+        for (int from = 0; from < bytes.length; ) {
+            int to = splitPoint(bytes, from + chunkSize);
+            int chunkFrom = from;
+            tasks.add(pool.submit(() -> parseChunk(bytes, chunkFrom, to, options)));
+            from = to;
+        }
+
+        var subtitles = new ArrayList<SrtSubtitle>();
+
+        try {
+            for (var task : tasks) {
+                subtitles.addAll(task.join());
+            }
+        } finally {
+            for (var task : tasks) {
+                task.cancel(false);
+            }
+        }
+
+        return subtitles;
+    }
+
+    private static List<SrtSubtitle> parseChunk(byte[] bytes, int from, int to, ParseOptions options) {
+        var subtitles = new ArrayList<SrtSubtitle>();
+        var parser = new SrtFileParser(options, null);
+
+        try (var lineIterator = LineIterator.from(bytes, from, to - from, StandardCharsets.UTF_8)) {
+            while (lineIterator.hasNext()) {
+                var subtitle = parser.consume(lineIterator.next());
+
+                if (subtitle != null) {
+                    subtitles.add(subtitle);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        var subtitle = parser.finish();
+
+        if (subtitle != null) {
+            subtitles.add(subtitle);
+        }
+
+        return subtitles;
+    }
+
+    private static int splitPoint(byte[] bytes, int from) {
+        if (from >= bytes.length) {
+            return bytes.length;
+        }
+
+        int lineStart = nextLine(bytes, from);
+        boolean previousBlank = false;
+
+        while (lineStart < bytes.length) {
+            int lineEnd = lineEnd(bytes, lineStart);
+
+            if (previousBlank && isIndex(bytes, lineStart, lineEnd)) {
+                int timestampStart = nextLine(bytes, lineEnd);
+
+                if (containsArrow(bytes, timestampStart, lineEnd(bytes, timestampStart))) {
+                    return lineStart;
+                }
+            }
+
+            previousBlank = isBlank(bytes, lineStart, lineEnd);
+            lineStart = nextLine(bytes, lineEnd);
+        }
+
+        return bytes.length;
+    }
+
+    private static int lineEnd(byte[] bytes, int from) {
+        int i = from;
+
+        while (i < bytes.length && bytes[i] != '\n' && bytes[i] != '\r') {
+            ++i;
+        }
+
+        return i;
+    }
+
+    private static int nextLine(byte[] bytes, int from) {
+        int i = lineEnd(bytes, from);
+
+        if (i < bytes.length && bytes[i] == '\r') {
+            ++i;
+        }
+
+        if (i < bytes.length && bytes[i] == '\n') {
+            ++i;
+        }
+
+        return i;
+    }
+
+    private static boolean isBlank(byte[] bytes, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if ((bytes[i] & 0xFF) > ' ') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isIndex(byte[] bytes, int from, int to) {
+        if (from == to) {
+            return false;
+        }
+
+        for (int i = from; i < to; ++i) {
+            if (bytes[i] < '0' || bytes[i] > '9') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean containsArrow(byte[] bytes, int from, int to) {
+        for (int i = from; i + 3 <= to; ++i) {
+            if (bytes[i] == '-' && bytes[i + 1] == '-' && bytes[i + 2] == '>') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -1,77 +1,140 @@
 package io.github.killergerbah.jsubtitle.srt;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 
 final class Parse {
 
-    static long timestamp(String timestampString) {
-        var tokenBuilder = new StringBuilder();
-        var unit = Unit.HOURS;
-        long timestamp = 0;
-        var iterator = timestampString.chars().iterator();
+    static long timestamp(CharSequence timestampString) {
+        return timestamp(timestampString, 0, timestampString.length());
+    }
+
+    static long timestamp(CharSequence chars, int from, int to) {
+        int hoursEnd = indexOf(chars, ':', from, to);
+        int minutesEnd = hoursEnd == -1 ? -1 : indexOf(chars, ':', hoursEnd + 1, to);
+        int secondsEnd = minutesEnd == -1 ? -1 : indexOf(chars, ',', minutesEnd + 1, to);
+
+        if (secondsEnd == -1) {
+            throw new IllegalArgumentException("Improperly formatted timestamp: " + chars.subSequence(from, to));
+        }
+
+        return Unit.HOURS.toMilliseconds(chars, from, hoursEnd)
+                + Unit.MINUTES.toMilliseconds(chars, hoursEnd + 1, minutesEnd)
+                + Unit.SECONDS.toMilliseconds(chars, minutesEnd + 1, secondsEnd)
+                + Unit.MILLISECONDS.toMilliseconds(chars, secondsEnd + 1, to);
+    }
 
-        while (iterator.hasNext()) {
-            int c = iterator.next();
+    static int integer(CharSequence chars, int from, int to) {
+        if (from == to) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
 
-            if (unit.shouldMoveNext(tokenBuilder, c)) {
-                timestamp += unit.toMilliseconds(tokenBuilder.toString());
+        int value = 0;
 
-                if (iterator.hasNext()) {
-                    tokenBuilder = new StringBuilder();
-                    unit = unit.next();
+        for (int i = from; i < to; ++i) {
+            int digit = chars.charAt(i) - '0';
 
-                    if (unit == null) {
-                        throw new IllegalArgumentException("Improperly formatted timestamp: " + timestampString);
-                    }
-                }
-            } else {
-                tokenBuilder.append((char) c);
+            if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("For input string: \"" + chars.subSequence(from, to) + "\"");
             }
+
+            value = value * 10 + digit;
         }
 
-        timestamp += unit.toMilliseconds(tokenBuilder.toString());
+        return value;
+    }
+
+    static long timestamp(ByteBuffer buffer, int from, int to) {
+        int hoursEnd = indexOf(buffer, (byte) ':', from, to);
+        int minutesEnd = hoursEnd == -1 ? -1 : indexOf(buffer, (byte) ':', hoursEnd + 1, to);
+        int secondsEnd = minutesEnd == -1 ? -1 : indexOf(buffer, (byte) ',', minutesEnd + 1, to);
 
-        return timestamp;
+        if (secondsEnd == -1) {
+            throw new IllegalArgumentException("Improperly formatted timestamp: " + string(buffer, from, to));
+        }
+
+        return Unit.HOURS.toMilliseconds(buffer, from, hoursEnd)
+                + Unit.MINUTES.toMilliseconds(buffer, hoursEnd + 1, minutesEnd)
+                + Unit.SECONDS.toMilliseconds(buffer, minutesEnd + 1, secondsEnd)
+                + Unit.MILLISECONDS.toMilliseconds(buffer, secondsEnd + 1, to);
     }
 
-    private enum Unit {
+    static int integer(ByteBuffer buffer, int from, int to) {
+        if (from == to) {
+            throw new NumberFormatException("For input string: \"\"");
+        }
+
+        int value = 0;
+
+        for (int i = from; i < to; ++i) {
+            int digit = buffer.get(i) - '0';
+
+            if (digit < 0 || digit > 9 || value > (Integer.MAX_VALUE - digit) / 10) {
+                throw new NumberFormatException("For input string: \"" + string(buffer, from, to) + "\"");
+            }
+
+            value = value * 10 + digit;
+        }
 
-        MILLISECONDS(TimeUnit.MILLISECONDS, null, 3, '\0') {
-            @Override
-            boolean shouldMoveNext(StringBuilder builder, int c) {
-                return builder.length() == 3;
+        return value;
+    }
+
+    static String string(ByteBuffer buffer, int from, int to) {
+        var bytes = new byte[to - from];
+        buffer.duplicate().position(from).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(CharSequence chars, char c, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (chars.charAt(i) == c) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte b, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            if (buffer.get(i) == b) {
+                return i;
             }
-        },
-        SECONDS(TimeUnit.SECONDS, MILLISECONDS, 2, ','),
-        MINUTES(TimeUnit.MINUTES, SECONDS, 2, ':'),
-        HOURS(TimeUnit.HOURS, MINUTES, 2, ':');
+        }
+
+        return -1;
+    }
+
+    private enum Unit {
+
+        MILLISECONDS(TimeUnit.MILLISECONDS, 3),
+        SECONDS(TimeUnit.SECONDS, 2),
+        MINUTES(TimeUnit.MINUTES, 2),
+        HOURS(TimeUnit.HOURS, 2);
 
         private final TimeUnit timeUnit;
-        private final Unit nextUnit;
         private final int length;
-        private final char delimiter;
 
-        Unit(TimeUnit timeUnit, Unit nextUnit, int length, char delimiter) {
+        Unit(TimeUnit timeUnit, int length) {
             this.timeUnit = timeUnit;
-            this.nextUnit = nextUnit;
             this.length = length;
-            this.delimiter = delimiter;
         }
 
-        boolean shouldMoveNext(StringBuilder builder, int c) {
-            return delimiter == (char) c;
-        }
-
-        long toMilliseconds(String token) {
-            if (token.length() != length) {
+        long toMilliseconds(CharSequence chars, int from, int to) {
+            if (to - from != length) {
                 throw new IllegalArgumentException("Invalid token length in timestamp");
             }
 
-            return timeUnit.toMillis(Integer.parseInt(token));
+            return timeUnit.toMillis(integer(chars, from, to));
         }
 
-        Unit next() {
-            return nextUnit;
+        long toMilliseconds(ByteBuffer buffer, int from, int to) {
+            if (to - from != length) {
+                throw new IllegalArgumentException("Invalid token length in timestamp");
+            }
+
+            return timeUnit.toMillis(integer(buffer, from, to));
         }
     }
 }
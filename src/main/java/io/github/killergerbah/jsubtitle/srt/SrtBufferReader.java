@@ -0,0 +1,234 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+public final class SrtBufferReader implements Iterator<SrtSubtitle> {
+
+    private static final byte[] ARROW = {' ', '-', '-', '>', ' '};
+
+    private final ByteBuffer buffer;
+    private final int limit;
+
+    private int position;
+    private int lineStart;
+    private int lineEnd;
+    private SrtSubtitle next;
+
+    private SrtBufferReader(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+        limit = buffer.limit();
+        position = buffer.position();
+
+        if (limit - position >= 3
+                && buffer.get(position) == (byte) 0xEF
+                && buffer.get(position + 1) == (byte) 0xBB
+                && buffer.get(position + 2) == (byte) 0xBF) {
+            position += 3;
+        }
+    }
+
+    public static SrtBufferReader from(ByteBuffer buffer) {
+        return new SrtBufferReader(buffer);
+    }
+
+    public static SrtBufferReader map(File file) throws IOException {
+        try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return new SrtBufferReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = parseNext();
+        }
+
+        return next != null;
+    }
+
+    @Override
+    public SrtSubtitle next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var subtitle = next;
+        next = null;
+        return subtitle;
+    }
+
+    private SrtSubtitle parseNext() {
+        do {
+            if (!nextLine()) {
+                return null;
+            }
+        } while (isBlank(lineStart, lineEnd));
+
+        int index = Parse.integer(buffer, lineStart, lineEnd);
+
+        if (!nextLine()) {
+            return null;
+        }
+
+        int from = trimStart(lineStart, lineEnd);
+        int to = trimEnd(from, lineEnd);
+        int arrow = indexOfArrow(from, to);
+
+        if (arrow == -1 || indexOfArrow(arrow + ARROW.length, to) != -1) {
+            throw new IllegalArgumentException("Improperly formatted timestamps: " + Parse.string(buffer, lineStart, lineEnd));
+        }
+
+        long start = Parse.timestamp(buffer, from, arrow);
+        long end = Parse.timestamp(buffer, arrow + ARROW.length, to);
+        int textStart = position;
+        int textEnd = position;
+
+        while (nextLine() && !isBlank(lineStart, lineEnd)) {
+            textEnd = lineEnd;
+        }
+
+        return new BufferSubtitle(buffer, index, start, end, textStart, textEnd);
+    }
+
+    private boolean nextLine() {
+        if (position >= limit) {
+            return false;
+        }
+
+        lineStart = position;
+        int i = position;
+
+        while (i < limit) {
+            byte b = buffer.get(i);
+
+            if (b == '\n') {
+                lineEnd = i;
+                position = i + 1;
+                return true;
+            }
+
+            if (b == '\r') {
+                lineEnd = i;
+                position = i + 1 < limit && buffer.get(i + 1) == '\n' ? i + 2 : i + 1;
+                return true;
+            }
+
+            ++i;
+        }
+
+        lineEnd = limit;
+        position = limit;
+        return true;
+    }
+
+    private boolean isBlank(int from, int to) {
+        return trimStart(from, to) == to;
+    }
+
+    private int trimStart(int from, int to) {
+        while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+            ++from;
+        }
+
+        return from;
+    }
+
+    private int trimEnd(int from, int to) {
+        while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+            --to;
+        }
+
+        return to;
+    }
+
+    private int indexOfArrow(int from, int to) {
+        outer:
+        for (int i = from; i <= to - ARROW.length; ++i) {
+            for (int j = 0; j < ARROW.length; ++j) {
+                if (buffer.get(i + j) != ARROW[j]) {
+                    continue outer;
+                }
+            }
+
+            return i;
+        }
+
+        return -1;
+    }
+
+    private static final class BufferSubtitle implements SrtSubtitle {
+
+        private final ByteBuffer buffer;
+        private final int index;
+        private final long start;
+        private final long end;
+        private final int textStart;
+        private final int textEnd;
+        private String text;
+
+        BufferSubtitle(ByteBuffer buffer, int index, long start, long end, int textStart, int textEnd) {
+            this.buffer = buffer;
+            this.index = index;
+            this.start = start;
+            this.end = end;
+            this.textStart = textStart;
+            this.textEnd = textEnd;
+        }
+
+        @Override
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public long getStart() {
+            return start;
+        }
+
+        @Override
+        public long getEnd() {
+            return end;
+        }
+
+        @Override
+        public String getText() {
+            if (text == null) {
+                text = decodeText();
+            }
+
+            return text;
+        }
+
+        private String decodeText() {
+            var bytes = new byte[textEnd - textStart];
+            int length = 0;
+
+            for (int i = textStart; i < textEnd; ++i) {
+                byte b = buffer.get(i);
+
+                if (b != '\r' && b != '\n') {
+                    bytes[length++] = b;
+                }
+            }
+
+            return new String(bytes, 0, length, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String toString() {
+            return "BufferSubtitle{" +
+                    "index=" + index +
+                    ", start=" + start +
+                    ", end=" + end +
+                    ", text='" + getText() + '\'' +
+                    '}';
+        }
+    }
+}
@@ -1,24 +1,74 @@
 package io.github.killergerbah.jsubtitle.srt;
 
-import java.util.ArrayList;
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.ParseListener;
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+
 import java.util.List;
 
 final class SrtFileParser {
 
-    private final List<SrtSubtitle> subtitles = new ArrayList<>();
+    private final TimeTransform timeTransform;
+    private final ParseListener listener;
+    private final List<ParseDiagnostic> diagnostics;
+
     private State state = new IndexState(new SrtSubtitleImpl());
+    private int lineNumber;
+
+    SrtFileParser() {
+        this(ParseOptions.DEFAULT, null);
+    }
+
+    SrtFileParser(ParseOptions options, List<ParseDiagnostic> diagnostics) {
+        this.timeTransform = options.getTimeTransform();
+        this.listener = options.getListener();
+        this.diagnostics = diagnostics;
+    }
 
-    void consume(String line) {
+    SrtSubtitle consume(String line) {
         var oldState = state;
-        state = state.consume(line);
+
+        try {
+            state = state.consume(line);
+        } catch (RuntimeException e) {
+            if (diagnostics == null) {
+                throw e;
+            }
+
+            var diagnostic = ParseDiagnostic.of(lineNumber, e, line);
+            diagnostics.add(diagnostic);
+            listener.anomaly(SubtitleFormat.SRT, lineNumber, diagnostic.getReason(), line);
+            state = SkipState.INSTANCE;
+        } finally {
+            ++lineNumber;
+        }
 
         if (state instanceof IndexState && oldState instanceof TextState) {
-            subtitles.add(((TextState) oldState).subtitle);
+            return retime(((TextState) oldState).subtitle);
         }
+
+        return null;
     }
 
-    List<SrtSubtitle> getSubtitles() {
-        return subtitles;
+    SrtSubtitle finish() {
+        if (state instanceof TextState) {
+            var textState = (TextState) state;
+            state = new IndexState(new SrtSubtitleImpl());
+            return retime(textState.complete());
+        }
+
+        return null;
+    }
+
+    private SrtSubtitleImpl retime(SrtSubtitleImpl subtitle) {
+        if (timeTransform != null) {
+            subtitle.start = timeTransform.apply(subtitle.start);
+            subtitle.end = timeTransform.apply(subtitle.end);
+        }
+
+        return subtitle;
     }
 
     private interface State {
@@ -26,6 +76,20 @@ final class SrtFileParser {
         State consume(String line);
     }
 
+    private static final class SkipState implements State {
+
+        private static final SkipState INSTANCE = new SkipState();
+
+        @Override
+        public State consume(String line) {
+            if (line.trim().equals("")) {
+                return new IndexState(new SrtSubtitleImpl());
+            }
+
+            return this;
+        }
+    }
+
     private static final class IndexState implements State {
 
         private final SrtSubtitleImpl subtitle;
@@ -47,6 +111,8 @@ final class SrtFileParser {
 
     private static final class TimestampState implements State {
 
+        private static final String ARROW = " --> ";
+
         private final SrtSubtitleImpl subtitle;
 
         TimestampState(SrtSubtitleImpl subtitle) {
@@ -55,14 +121,25 @@ final class SrtFileParser {
 
         @Override
         public State consume(String line) {
-            var timestampStrings = line.trim().split(" --> ");
+            int from = 0;
+            int to = line.length();
 
-            if (timestampStrings.length != 2) {
+            while (from < to && line.charAt(from) <= ' ') {
+                ++from;
+            }
+
+            while (to > from && line.charAt(to - 1) <= ' ') {
+                --to;
+            }
+
+            int arrow = line.indexOf(ARROW, from);
+
+            if (arrow == -1 || arrow + ARROW.length() > to || line.indexOf(ARROW, arrow + ARROW.length()) != -1) {
                 throw new IllegalArgumentException("Improperly formatted timestamps: " + line);
             }
 
-            subtitle.start = Parse.timestamp(timestampStrings[0]);
-            subtitle.end = Parse.timestamp(timestampStrings[1]);
+            subtitle.start = Parse.timestamp(line, from, arrow);
+            subtitle.end = Parse.timestamp(line, arrow + ARROW.length(), to);
 
             return new TextState(subtitle);
         }
@@ -80,13 +157,18 @@ final class SrtFileParser {
         @Override
         public State consume(String line) {
             if (line.trim().equals("")) {
-                subtitle.text = text.toString();
+                complete();
                 return new IndexState(new SrtSubtitleImpl());
             }
 
             text.append(line);
             return this;
         }
+
+        SrtSubtitleImpl complete() {
+            subtitle.text = text.toString();
+            return subtitle;
+        }
     }
 
     private static final class SrtSubtitleImpl implements SrtSubtitle {
@@ -1,48 +1,155 @@
 package io.github.killergerbah.jsubtitle.srt;
 
+import io.github.killergerbah.jsubtitle.Cue;
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.ParseResult;
+import io.github.killergerbah.jsubtitle.util.Charsets;
 import io.github.killergerbah.jsubtitle.util.LineIterator;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
-public interface SrtSubtitle {
+public interface SrtSubtitle extends Cue {
 
     static List<SrtSubtitle> read(InputStream inputStream) throws IOException {
-        try (var lineIterator = LineIterator.from(inputStream)) {
-            return read(lineIterator);
+        return read(inputStream, ParseOptions.DEFAULT);
+    }
+
+    static List<SrtSubtitle> read(InputStream inputStream, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(inputStream, options.getCharset())) {
+            return read(lineIterator, options);
         }
     }
 
     static List<SrtSubtitle> read(byte[] bytes) throws IOException {
-        try (var lineIterator = LineIterator.from(bytes)) {
-            return read(lineIterator);
+        return read(bytes, ParseOptions.DEFAULT);
+    }
+
+    static List<SrtSubtitle> read(byte[] bytes, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(bytes, options.getCharset())) {
+            return read(lineIterator, options);
         }
     }
 
     static List<SrtSubtitle> read(String string) throws IOException {
+        return read(string, ParseOptions.DEFAULT);
+    }
+
+    static List<SrtSubtitle> read(String string, ParseOptions options) throws IOException {
         try (var lineIterator = LineIterator.from(string)) {
-            return read(lineIterator);
+            return read(lineIterator, options);
         }
     }
 
     static List<SrtSubtitle> read(File file) throws IOException {
-        try (var lineIterator = LineIterator.from(new FileInputStream(file))) {
-            return read(lineIterator);
+        return read(file, ParseOptions.DEFAULT);
+    }
+
+    static List<SrtSubtitle> read(File file, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(new FileInputStream(file), options.getCharset())) {
+            return read(lineIterator, options);
+        }
+    }
+
+    static ParseResult<List<SrtSubtitle>> readLenient(InputStream inputStream) throws IOException {
+        return readLenient(inputStream, ParseOptions.DEFAULT);
+    }
+
+    static ParseResult<List<SrtSubtitle>> readLenient(InputStream inputStream, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(inputStream, options.getCharset())) {
+            return readLenient(lineIterator, options);
+        }
+    }
+
+    static ParseResult<List<SrtSubtitle>> readLenient(byte[] bytes) throws IOException {
+        return readLenient(bytes, ParseOptions.DEFAULT);
+    }
+
+    static ParseResult<List<SrtSubtitle>> readLenient(byte[] bytes, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(bytes, options.getCharset())) {
+            return readLenient(lineIterator, options);
+        }
+    }
+
+    static ParseResult<List<SrtSubtitle>> readLenient(String string) throws IOException {
+        return readLenient(string, ParseOptions.DEFAULT);
+    }
+
+    static ParseResult<List<SrtSubtitle>> readLenient(String string, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(string)) {
+            return readLenient(lineIterator, options);
         }
     }
 
-    private static List<SrtSubtitle> read(LineIterator lineIterator) throws IOException {
-        var parser = new SrtFileParser();
+    static ParseResult<List<SrtSubtitle>> readLenient(File file) throws IOException {
+        return readLenient(file, ParseOptions.DEFAULT);
+    }
+
+    static ParseResult<List<SrtSubtitle>> readLenient(File file, ParseOptions options) throws IOException {
+        try (var lineIterator = LineIterator.from(new FileInputStream(file), options.getCharset())) {
+            return readLenient(lineIterator, options);
+        }
+    }
+
+    static List<SrtSubtitle> readParallel(byte[] bytes) {
+        return readParallel(bytes, ForkJoinPool.commonPool());
+    }
+
+    static List<SrtSubtitle> readParallel(byte[] bytes, ForkJoinPool pool) {
+        return readParallel(bytes, ParseOptions.DEFAULT, pool);
+    }
+
+    static List<SrtSubtitle> readParallel(byte[] bytes, ParseOptions options, ForkJoinPool pool) {
+        return ParallelSrtParser.read(Charsets.toUtf8(bytes, options.getCharset()), options, pool);
+    }
+
+    static List<SrtSubtitle> readParallel(File file) throws IOException {
+        return readParallel(file, ForkJoinPool.commonPool());
+    }
+
+    static List<SrtSubtitle> readParallel(File file, ForkJoinPool pool) throws IOException {
+        return readParallel(file, ParseOptions.DEFAULT, pool);
+    }
+
+    static List<SrtSubtitle> readParallel(File file, ParseOptions options, ForkJoinPool pool) throws IOException {
+        return readParallel(Files.readAllBytes(file.toPath()), options, pool);
+    }
+
+    static List<SrtSubtitle> read(ByteBuffer buffer) {
+        var subtitles = new ArrayList<SrtSubtitle>();
+        SrtBufferReader.from(buffer).forEachRemaining(subtitles::add);
+        return subtitles;
+    }
+
+    private static List<SrtSubtitle> read(LineIterator lineIterator, ParseOptions options) throws IOException {
+        return read(new SrtSubtitleReader(lineIterator, options));
+    }
+
+    private static ParseResult<List<SrtSubtitle>> readLenient(LineIterator lineIterator, ParseOptions options) throws IOException {
+        var diagnostics = new ArrayList<ParseDiagnostic>();
+        var subtitles = read(new SrtSubtitleReader(lineIterator, options, diagnostics));
+        return ParseResult.of(subtitles, diagnostics);
+    }
+
+    private static List<SrtSubtitle> read(SrtSubtitleReader reader) throws IOException {
+        var subtitles = new ArrayList<SrtSubtitle>();
 
-        while (lineIterator.hasNext()) {
-            var line = lineIterator.next();
-            parser.consume(line);
+        try {
+            reader.forEachRemaining(subtitles::add);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
 
-        return parser.getSubtitles();
+        return subtitles;
     }
 
     int getIndex();
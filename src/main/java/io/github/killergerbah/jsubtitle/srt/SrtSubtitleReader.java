@@ -0,0 +1,168 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.ParseListener;
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.util.LineIterator;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public final class SrtSubtitleReader implements Iterator<SrtSubtitle>, AutoCloseable {
+
+    private final LineIterator lineIterator;
+    private final SrtFileParser parser;
+    private final ParseListener listener;
+
+    private SrtSubtitle next;
+    private boolean finished;
+    private boolean started;
+    private int lines;
+    private int cues;
+    private long readNanos;
+    private long parseNanos;
+
+    SrtSubtitleReader(LineIterator lineIterator) {
+        this(lineIterator, ParseOptions.DEFAULT);
+    }
+
+    SrtSubtitleReader(LineIterator lineIterator, ParseOptions options) {
+        this(lineIterator, options, null);
+    }
+
+    SrtSubtitleReader(LineIterator lineIterator, ParseOptions options, List<ParseDiagnostic> diagnostics) {
+        this.lineIterator = lineIterator;
+        this.parser = new SrtFileParser(options, diagnostics);
+        this.listener = options.getListener();
+    }
+
+    public static SrtSubtitleReader from(InputStream inputStream) {
+        return from(inputStream, ParseOptions.DEFAULT);
+    }
+
+    public static SrtSubtitleReader from(InputStream inputStream, ParseOptions options) {
+        return new SrtSubtitleReader(LineIterator.from(inputStream, options.getCharset()), options);
+    }
+
+    public static SrtSubtitleReader from(byte[] bytes) {
+        return from(bytes, ParseOptions.DEFAULT);
+    }
+
+    public static SrtSubtitleReader from(byte[] bytes, ParseOptions options) {
+        return new SrtSubtitleReader(LineIterator.from(bytes, options.getCharset()), options);
+    }
+
+    public static SrtSubtitleReader from(String string) {
+        return from(string, ParseOptions.DEFAULT);
+    }
+
+    public static SrtSubtitleReader from(String string, ParseOptions options) {
+        return new SrtSubtitleReader(LineIterator.from(string), options);
+    }
+
+    public static SrtSubtitleReader from(File file) throws FileNotFoundException {
+        return from(file, ParseOptions.DEFAULT);
+    }
+
+    public static SrtSubtitleReader from(File file, ParseOptions options) throws FileNotFoundException {
+        return new SrtSubtitleReader(LineIterator.from(new FileInputStream(file), options.getCharset()), options);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+
+        try {
+            while (next == null && !finished) {
+                if (listener != ParseListener.NONE) {
+                    next = instrumentedStep();
+                } else if (lineIterator.hasNext()) {
+                    next = parser.consume(lineIterator.next());
+                } else {
+                    next = parser.finish();
+                    finished = true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return next != null;
+    }
+
+    private SrtSubtitle instrumentedStep() throws IOException {
+        if (!started) {
+            started = true;
+            listener.parseStarted(SubtitleFormat.SRT);
+        }
+
+        long start = System.nanoTime();
+        boolean hasNext = lineIterator.hasNext();
+        var line = hasNext ? lineIterator.next() : null;
+        long read = System.nanoTime();
+        readNanos += read - start;
+        SrtSubtitle subtitle;
+
+        if (hasNext) {
+            ++lines;
+            subtitle = parser.consume(line);
+        } else {
+            subtitle = parser.finish();
+            finished = true;
+        }
+
+        parseNanos += System.nanoTime() - read;
+
+        if (subtitle != null) {
+            ++cues;
+        }
+
+        if (finished) {
+            listener.parseFinished(SubtitleFormat.SRT, lineIterator.getBytesRead(), lines, cues, readNanos, parseNanos);
+        }
+
+        return subtitle;
+    }
+
+    @Override
+    public SrtSubtitle next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var subtitle = next;
+        next = null;
+        return subtitle;
+    }
+
+    public Stream<SrtSubtitle> stream() {
+        var spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        lineIterator.close();
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+import io.github.killergerbah.jsubtitle.util.StringColumn;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+public final class SrtSubtitleTable {
+
+    private final int size;
+    private final int[] indexes;
+    private final long[] starts;
+    private final long[] ends;
+    private final StringColumn texts;
+    private final List<SrtSubtitle> subtitles = new SubtitleList();
+
+    private SrtSubtitleTable(int size, int[] indexes, long[] starts, long[] ends, StringColumn texts) {
+        this.size = size;
+        this.indexes = Arrays.copyOf(indexes, size);
+        this.starts = Arrays.copyOf(starts, size);
+        this.ends = Arrays.copyOf(ends, size);
+        this.texts = texts;
+        texts.trimToSize();
+    }
+
+    public static SrtSubtitleTable of(Iterable<? extends SrtSubtitle> subtitles) {
+        return of(subtitles.iterator());
+    }
+
+    public static SrtSubtitleTable of(Iterator<? extends SrtSubtitle> subtitles) {
+        var texts = new StringColumn();
+        int size = 0;
+        var indexes = new int[16];
+        var starts = new long[16];
+        var ends = new long[16];
+
+        while (subtitles.hasNext()) {
+            var subtitle = subtitles.next();
+
+            if (size == indexes.length) {
+                indexes = Arrays.copyOf(indexes, size * 2);
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+
+            indexes[size] = subtitle.getIndex();
+            starts[size] = subtitle.getStart();
+            ends[size] = subtitle.getEnd();
+            texts.add(subtitle.getText());
+            ++size;
+        }
+
+        return new SrtSubtitleTable(size, indexes, starts, ends, texts);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getIndex(int index) {
+        checkIndex(index);
+        return indexes[index];
+    }
+
+    public long getStart(int index) {
+        checkIndex(index);
+        return starts[index];
+    }
+
+    public long getEnd(int index) {
+        checkIndex(index);
+        return ends[index];
+    }
+
+    public String getText(int index) {
+        checkIndex(index);
+        return texts.get(index);
+    }
+
+    public void retime(TimeTransform transform) {
+        transform.apply(starts, 0, size);
+        transform.apply(ends, 0, size);
+    }
+
+    public SrtSubtitle get(int index) {
+        checkIndex(index);
+        return new SubtitleView(this, index);
+    }
+
+    public List<SrtSubtitle> asList() {
+        return subtitles;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+
+    private final class SubtitleList extends AbstractList<SrtSubtitle> implements RandomAccess {
+
+        @Override
+        public SrtSubtitle get(int index) {
+            return SrtSubtitleTable.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static final class SubtitleView implements SrtSubtitle {
+
+        private final SrtSubtitleTable table;
+        private final int index;
+
+        SubtitleView(SrtSubtitleTable table, int index) {
+            this.table = table;
+            this.index = index;
+        }
+
+        @Override
+        public int getIndex() {
+            return table.indexes[index];
+        }
+
+        @Override
+        public long getStart() {
+            return table.starts[index];
+        }
+
+        @Override
+        public long getEnd() {
+            return table.ends[index];
+        }
+
+        @Override
+        public String getText() {
+            return table.texts.get(index);
+        }
+
+        @Override
+        public String toString() {
+            return "SubtitleView{" +
+                    "index=" + getIndex() +
+                    ", start=" + getStart() +
+                    ", end=" + getEnd() +
+                    ", text='" + getText() + '\'' +
+                    '}';
+        }
+    }
+}
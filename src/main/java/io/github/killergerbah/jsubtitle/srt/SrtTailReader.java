@@ -0,0 +1,85 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.util.FileTail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public final class SrtTailReader {
+
+    private final FileTail tail;
+    private final ParseOptions options;
+    private final List<ParseDiagnostic> diagnostics;
+
+    private SrtFileParser parser;
+
+    private SrtTailReader(FileTail tail, ParseOptions options, List<ParseDiagnostic> diagnostics) {
+        this.tail = tail;
+        this.options = options;
+        this.diagnostics = diagnostics;
+        parser = new SrtFileParser(options, diagnostics);
+    }
+
+    public static SrtTailReader from(File file) {
+        return from(file, ParseOptions.DEFAULT);
+    }
+
+    public static SrtTailReader from(File file, ParseOptions options) {
+        return new SrtTailReader(FileTail.of(file.toPath(), options.getCharset()), options, null);
+    }
+
+    public static SrtTailReader fromLenient(File file) {
+        return fromLenient(file, ParseOptions.DEFAULT);
+    }
+
+    public static SrtTailReader fromLenient(File file, ParseOptions options) {
+        return new SrtTailReader(FileTail.of(file.toPath(), options.getCharset()), options, new ArrayList<>());
+    }
+
+    public long getOffset() {
+        return tail.getOffset();
+    }
+
+    public List<ParseDiagnostic> getDiagnostics() {
+        return diagnostics == null ? List.of() : Collections.unmodifiableList(diagnostics);
+    }
+
+    public List<SrtSubtitle> poll() throws IOException {
+        var subtitles = new ArrayList<SrtSubtitle>();
+        tail.poll(this::reset, line -> consume(line, subtitles));
+        return subtitles;
+    }
+
+    public List<SrtSubtitle> finish() throws IOException {
+        var subtitles = poll();
+        tail.finish(line -> consume(line, subtitles));
+        var last = parser.finish();
+
+        if (last != null) {
+            subtitles.add(last);
+        }
+
+        return subtitles;
+    }
+
+    private void consume(String line, List<SrtSubtitle> subtitles) {
+        var subtitle = parser.consume(line);
+
+        if (subtitle != null) {
+            subtitles.add(subtitle);
+        }
+    }
+
+    private void reset() {
+        if (diagnostics != null) {
+            diagnostics.clear();
+        }
+
+        parser = new SrtFileParser(options, diagnostics);
+    }
+}
@@ -0,0 +1,49 @@
+package io.github.killergerbah.jsubtitle.time;
+
+final class AffineTransform implements TimeTransform {
+
+    static final AffineTransform IDENTITY = new AffineTransform(1, 0);
+
+    private final double factor;
+    private final long offset;
+
+    AffineTransform(double factor, long offset) {
+        if (!(factor > 0) || Double.isInfinite(factor)) {
+            throw new IllegalArgumentException("Scale factor must be positive and finite: " + factor);
+        }
+
+        this.factor = factor;
+        this.offset = offset;
+    }
+
+    @Override
+    public long apply(long time) {
+        return factor == 1 ? time + offset : Math.round(time * factor) + offset;
+    }
+
+    @Override
+    public void apply(long[] times, int from, int to) {
+        if (factor == 1) {
+            for (int i = from; i < to; ++i) {
+                times[i] += offset;
+            }
+        } else {
+            for (int i = from; i < to; ++i) {
+                times[i] = Math.round(times[i] * factor) + offset;
+            }
+        }
+    }
+
+    @Override
+    public TimeTransform andThen(TimeTransform next) {
+        if (next instanceof AffineTransform) {
+            var affine = (AffineTransform) next;
+
+            if (factor == 1 && affine.factor == 1) {
+                return new AffineTransform(1, offset + affine.offset);
+            }
+        }
+
+        return TimeTransform.super.andThen(next);
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.killergerbah.jsubtitle.time;
+
+import java.util.Arrays;
+
+final class PiecewiseLinearTransform implements TimeTransform {
+
+    private final long[] sources;
+    private final long[] targets;
+    private final double[] slopes;
+
+    PiecewiseLinearTransform(long[] sourceTimes, long[] targetTimes) {
+        if (sourceTimes.length != targetTimes.length || sourceTimes.length < 2) {
+            throw new IllegalArgumentException("Piecewise transforms need at least two matching anchor points");
+        }
+
+        sources = sourceTimes.clone();
+        targets = targetTimes.clone();
+        slopes = new double[sources.length - 1];
+
+        for (int i = 0; i < slopes.length; ++i) {
+            if (sources[i + 1] <= sources[i]) {
+                throw new IllegalArgumentException("Anchor source times must be strictly increasing at index " + (i + 1));
+            }
+
+            if (targets[i + 1] < targets[i]) {
+                throw new IllegalArgumentException("Anchor target times must be non-decreasing at index " + (i + 1));
+            }
+
+            slopes[i] = (double) (targets[i + 1] - targets[i]) / (sources[i + 1] - sources[i]);
+        }
+    }
+
+    @Override
+    public long apply(long time) {
+        return interpolate(segment(time), time);
+    }
+
+    @Override
+    public void apply(long[] times, int from, int to) {
+        int segment = 0;
+
+        for (int i = from; i < to; ++i) {
+            long time = times[i];
+
+            if (time < sources[segment]) {
+                segment = segment(time);
+            } else {
+                while (segment < slopes.length - 1 && time >= sources[segment + 1]) {
+                    ++segment;
+                }
+            }
+
+            times[i] = interpolate(segment, time);
+        }
+    }
+
+    private int segment(long time) {
+        int index = Arrays.binarySearch(sources, time);
+        int segment = index >= 0 ? index : -index - 2;
+        return Math.max(0, Math.min(segment, slopes.length - 1));
+    }
+
+    private long interpolate(int segment, long time) {
+        return targets[segment] + Math.round((time - sources[segment]) * slopes[segment]);
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.killergerbah.jsubtitle.time;
+
+import java.util.Objects;
+
+@FunctionalInterface
+public interface TimeTransform {
+
+    long apply(long time);
+
+    default void apply(long[] times, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            times[i] = apply(times[i]);
+        }
+    }
+
+    default TimeTransform andThen(TimeTransform next) {
+        Objects.requireNonNull(next);
+        return time -> next.apply(apply(time));
+    }
+
+    static TimeTransform identity() {
+        return AffineTransform.IDENTITY;
+    }
+
+    static TimeTransform shift(long offset) {
+        return new AffineTransform(1, offset);
+    }
+
+    static TimeTransform scale(double factor) {
+        return new AffineTransform(factor, 0);
+    }
+
+    static TimeTransform affine(double factor, long offset) {
+        return new AffineTransform(factor, offset);
+    }
+
+    static TimeTransform fps(double sourceFps, double targetFps) {
+        if (!(sourceFps > 0) || !(targetFps > 0)) {
+            throw new IllegalArgumentException("Frame rates must be positive: " + sourceFps + " -> " + targetFps);
+        }
+
+        return new AffineTransform(sourceFps / targetFps, 0);
+    }
+
+    static TimeTransform piecewise(long[] sourceTimes, long[] targetTimes) {
+        return new PiecewiseLinearTransform(sourceTimes, targetTimes);
+    }
+}
@@ -0,0 +1,220 @@
+package io.github.killergerbah.jsubtitle.util;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+public final class Charsets {
+
+    static final int SNIFF_LENGTH = 8192;
+
+    private static final Charset SHIFT_JIS = lookup("Shift_JIS");
+    private static final Charset GBK = lookup("GBK");
+    private static final Charset WINDOWS_1252 = lookup("windows-1252");
+
+    private Charsets() {
+    }
+
+    public static Detection detect(byte[] head, int length) {
+        var bom = bom(head, length);
+
+        if (bom != null) {
+            return bom;
+        }
+
+        return new Detection(guess(head, length), 0);
+    }
+
+    public static byte[] toUtf8(byte[] bytes, Charset charset) {
+        int length = Math.min(bytes.length, SNIFF_LENGTH);
+        var detection = charset == null ? detect(bytes, length) : bom(bytes, length);
+
+        if (detection == null || (charset != null && !charset.equals(detection.getCharset()))) {
+            detection = new Detection(charset, 0);
+        }
+
+        if (StandardCharsets.UTF_8.equals(detection.getCharset())) {
+            return bytes;
+        }
+
+        int bomLength = detection.getBomLength();
+        return new String(bytes, bomLength, bytes.length - bomLength, detection.getCharset()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static Detection bom(byte[] head, int length) {
+        if (length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            return new Detection(StandardCharsets.UTF_8, 3);
+        }
+
+        if (length >= 2 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xFE) {
+            return new Detection(StandardCharsets.UTF_16LE, 2);
+        }
+
+        if (length >= 2 && (head[0] & 0xFF) == 0xFE && (head[1] & 0xFF) == 0xFF) {
+            return new Detection(StandardCharsets.UTF_16BE, 2);
+        }
+
+        return null;
+    }
+
+    private static Charset guess(byte[] head, int length) {
+        var utf16 = utf16(head, length);
+
+        if (utf16 != null) {
+            return utf16;
+        }
+
+        if (isUtf8(head, length)) {
+            return StandardCharsets.UTF_8;
+        }
+
+        var shiftJis = decode(SHIFT_JIS, head, length);
+
+        if (shiftJis != null && containsKana(shiftJis)) {
+            return SHIFT_JIS;
+        }
+
+        if (decode(GBK, head, length) != null) {
+            return GBK;
+        }
+
+        if (shiftJis != null) {
+            return SHIFT_JIS;
+        }
+
+        return WINDOWS_1252 == null ? StandardCharsets.ISO_8859_1 : WINDOWS_1252;
+    }
+
+    private static Charset utf16(byte[] head, int length) {
+        int pairs = length / 2;
+
+        if (pairs < 2) {
+            return null;
+        }
+
+        int evenZeros = 0;
+        int oddZeros = 0;
+
+        for (int i = 0; i + 1 < length; i += 2) {
+            if (head[i] == 0) {
+                ++evenZeros;
+            }
+
+            if (head[i + 1] == 0) {
+                ++oddZeros;
+            }
+        }
+
+        if (oddZeros * 10 > pairs * 3 && evenZeros * 10 < pairs) {
+            return StandardCharsets.UTF_16LE;
+        }
+
+        if (evenZeros * 10 > pairs * 3 && oddZeros * 10 < pairs) {
+            return StandardCharsets.UTF_16BE;
+        }
+
+        return null;
+    }
+
+    private static boolean isUtf8(byte[] head, int length) {
+        int i = 0;
+
+        while (i < length) {
+            int b = head[i] & 0xFF;
+            int continuation;
+
+            if (b < 0x80) {
+                ++i;
+                continue;
+            } else if (b >= 0xC2 && b <= 0xDF) {
+                continuation = 1;
+            } else if (b >= 0xE0 && b <= 0xEF) {
+                continuation = 2;
+            } else if (b >= 0xF0 && b <= 0xF4) {
+                continuation = 3;
+            } else {
+                return false;
+            }
+
+            for (int j = 1; j <= continuation; ++j) {
+                if (i + j >= length) {
+                    return length == SNIFF_LENGTH;
+                }
+
+                if ((head[i + j] & 0xC0) != 0x80) {
+                    return false;
+                }
+            }
+
+            i += continuation + 1;
+        }
+
+        return true;
+    }
+
+    private static CharBuffer decode(Charset charset, byte[] head, int length) {
+        if (charset == null) {
+            return null;
+        }
+
+        var decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        var out = CharBuffer.allocate(length);
+        CoderResult result = decoder.decode(ByteBuffer.wrap(head, 0, length), out, length < SNIFF_LENGTH);
+
+        if (result.isError()) {
+            return null;
+        }
+
+        if (length < SNIFF_LENGTH) {
+            if (decoder.flush(out).isError()) {
+                return null;
+            }
+        }
+
+        return out.flip();
+    }
+
+    private static boolean containsKana(CharBuffer chars) {
+        for (int i = 0; i < chars.length(); ++i) {
+            char c = chars.charAt(i);
+
+            if (c >= '\u3040' && c <= '\u30FF') {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Charset lookup(String name) {
+        try {
+            return Charset.forName(name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static final class Detection {
+
+        private final Charset charset;
+        private final int bomLength;
+
+        Detection(Charset charset, int bomLength) {
+            this.charset = charset;
+            this.bomLength = bomLength;
+        }
+
+        public Charset getCharset() {
+            return charset;
+        }
+
+        public int getBomLength() {
+            return bomLength;
+        }
+    }
+}
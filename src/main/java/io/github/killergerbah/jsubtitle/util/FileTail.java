@@ -0,0 +1,175 @@
+package io.github.killergerbah.jsubtitle.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+public final class FileTail {
+
+    private static final int READ_SIZE = 1 << 16;
+
+    private final Path path;
+    private final Charset charset;
+    private final StringBuilder partial = new StringBuilder();
+    private final ByteBuffer bytes = ByteBuffer.allocate(READ_SIZE);
+    private final CharBuffer chars = CharBuffer.allocate(READ_SIZE);
+
+    private CharsetDecoder decoder;
+    private long offset;
+    private boolean pendingCarriageReturn;
+
+    private FileTail(Path path, Charset charset) {
+        this.path = path;
+        this.charset = charset;
+    }
+
+    public static FileTail of(Path path) {
+        return of(path, null);
+    }
+
+    public static FileTail of(Path path, Charset charset) {
+        return new FileTail(path, charset);
+    }
+
+    public long getOffset() {
+        return offset;
+    }
+
+    public Charset getCharset() {
+        return decoder == null ? charset : decoder.charset();
+    }
+
+    public boolean hasPartialLine() {
+        return partial.length() > 0;
+    }
+
+    public void poll(Runnable onTruncated, Consumer<String> onLine) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < offset) {
+                reset();
+                onTruncated.run();
+            }
+
+            channel.position(offset);
+            int read;
+
+            while ((read = channel.read(bytes)) > 0) {
+                offset += read;
+
+                if (decoder != null || bytes.position() >= Charsets.SNIFF_LENGTH) {
+                    decode(false, onLine);
+                }
+            }
+
+            if (bytes.position() > 0) {
+                decode(false, onLine);
+            }
+        }
+    }
+
+    public void finish(Consumer<String> onLine) {
+        if (bytes.position() > 0) {
+            decode(true, onLine);
+        }
+
+        if (partial.length() > 0) {
+            onLine.accept(partial.toString());
+            partial.setLength(0);
+        }
+    }
+
+    private void reset() {
+        offset = 0;
+        partial.setLength(0);
+        bytes.clear();
+        chars.clear();
+        decoder = null;
+        pendingCarriageReturn = false;
+    }
+
+    private void decode(boolean endOfInput, Consumer<String> onLine) {
+        bytes.flip();
+
+        if (decoder == null) {
+            decoder = detect();
+        }
+
+        while (true) {
+            var result = decoder.decode(bytes, chars, endOfInput);
+            split(onLine);
+
+            if (result.isUnderflow()) {
+                break;
+            }
+        }
+
+        if (endOfInput) {
+            decoder.flush(chars);
+            split(onLine);
+            decoder.reset();
+        }
+
+        bytes.compact();
+    }
+
+    private CharsetDecoder detect() {
+        var head = bytes.array();
+        int length = bytes.remaining();
+        var detection = charset == null ? Charsets.detect(head, length) : Charsets.bom(head, length);
+        var decodeAs = charset;
+
+        if (detection != null && (charset == null || charset.equals(detection.getCharset()))) {
+            decodeAs = detection.getCharset();
+            bytes.position(bytes.position() + detection.getBomLength());
+        }
+
+        return decodeAs.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    }
+
+    private void split(Consumer<String> onLine) {
+        chars.flip();
+        var array = chars.array();
+        int limit = chars.limit();
+        int lineStart = 0;
+
+        for (int i = 0; i < limit; ++i) {
+            char c = array[i];
+
+            if (pendingCarriageReturn) {
+                pendingCarriageReturn = false;
+
+                if (c == '\n') {
+                    lineStart = i + 1;
+                    continue;
+                }
+            }
+
+            if (c != '\n' && c != '\r') {
+                continue;
+            }
+
+            if (partial.length() == 0) {
+                onLine.accept(new String(array, lineStart, i - lineStart));
+            } else {
+                partial.append(array, lineStart, i - lineStart);
+                onLine.accept(partial.toString());
+                partial.setLength(0);
+            }
+
+            pendingCarriageReturn = c == '\r';
+            lineStart = i + 1;
+        }
+
+        partial.append(array, lineStart, limit - lineStart);
+        chars.clear();
+    }
+}
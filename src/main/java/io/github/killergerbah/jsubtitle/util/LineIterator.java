@@ -1,42 +1,159 @@
 package io.github.killergerbah.jsubtitle.util;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.NoSuchElementException;
 
 public final class LineIterator implements AutoCloseable {
 
-    private final BufferedReader reader;
+    private final InputStream inputStream;
+    private final Charset charset;
+    private final String string;
 
-    private LineIterator(InputStream inputStream) {
-        reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+    private BufferedReader reader;
+    private CountingInputStream counter;
+    private int bomLength;
+    private String nextLine;
+    private boolean done;
+
+    private LineIterator(InputStream inputStream, Charset charset, String string) {
+        this.inputStream = inputStream;
+        this.charset = charset;
+        this.string = string;
     }
 
     public static LineIterator from(InputStream inputStream) {
-        return new LineIterator(inputStream);
+        return from(inputStream, null);
+    }
+
+    public static LineIterator from(InputStream inputStream, Charset charset) {
+        return new LineIterator(inputStream, charset, null);
     }
 
     public static LineIterator from(byte[] bytes) {
-        return new LineIterator(new ByteArrayInputStream(bytes));
+        return from(bytes, null);
+    }
+
+    public static LineIterator from(byte[] bytes, Charset charset) {
+        return from(bytes, 0, bytes.length, charset);
+    }
+
+    public static LineIterator from(byte[] bytes, int offset, int length, Charset charset) {
+        return from(new ByteArrayInputStream(bytes, offset, length), charset);
     }
 
     public static LineIterator from(String string) {
-        return new LineIterator(new ByteArrayInputStream(string.getBytes()));
+        return new LineIterator(null, null, string);
     }
 
     @Override
     public void close() throws IOException {
-        reader.close();
+        if (reader != null) {
+            reader.close();
+        } else if (inputStream != null) {
+            inputStream.close();
+        }
+    }
+
+    public long getBytesRead() {
+        return counter == null ? -1 : bomLength + counter.count;
     }
 
     public boolean hasNext() throws IOException {
-        return reader.ready();
+        if (nextLine == null && !done) {
+            if (reader == null) {
+                reader = open();
+            }
+
+            nextLine = reader.readLine();
+            done = nextLine == null;
+        }
+
+        return !done;
     }
 
     public String next() throws IOException {
-        return reader.readLine().replace("\uFEFF", "");
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        var line = nextLine;
+        nextLine = null;
+        return line;
+    }
+
+    private BufferedReader open() throws IOException {
+        if (string != null) {
+            var stringReader = new StringReader(string);
+
+            if (string.startsWith("\uFEFF")) {
+                stringReader.skip(1);
+            }
+
+            return new BufferedReader(stringReader);
+        }
+
+        var buffered = inputStream instanceof BufferedInputStream ? (BufferedInputStream) inputStream : new BufferedInputStream(inputStream, Charsets.SNIFF_LENGTH);
+        var head = new byte[charset == null ? Charsets.SNIFF_LENGTH : 3];
+        buffered.mark(head.length);
+        int length = buffered.readNBytes(head, 0, head.length);
+        buffered.reset();
+
+        var detection = charset == null ? Charsets.detect(head, length) : Charsets.bom(head, length);
+        var decodeAs = charset;
+
+        if (detection != null && (charset == null || charset.equals(detection.getCharset()))) {
+            decodeAs = detection.getCharset();
+            bomLength = detection.getBomLength();
+        }
+
+        buffered.readNBytes(head, 0, bomLength);
+        counter = new CountingInputStream(buffered);
+        return new BufferedReader(new InputStreamReader(counter, decodeAs));
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+
+            if (b != -1) {
+                ++count;
+            }
+
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+
+            if (read > 0) {
+                count += read;
+            }
+
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
     }
 }
@@ -0,0 +1,97 @@
+package io.github.killergerbah.jsubtitle.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+public final class StringColumn {
+
+    private final BitSet utf16 = new BitSet();
+
+    private byte[] bytes;
+    private int[] offsets;
+    private int length;
+    private int size;
+
+    public StringColumn() {
+        this(16, 256);
+    }
+
+    public StringColumn(int expectedSize, int expectedLength) {
+        bytes = new byte[Math.max(expectedLength, 16)];
+        offsets = new int[Math.max(expectedSize, 16) + 1];
+    }
+
+    public int add(String string) {
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        if (string == null) {
+            offsets[size + 1] = ~length;
+            return size++;
+        }
+
+        int stringLength = string.length();
+        boolean latin1 = isLatin1(string);
+        int byteLength = latin1 ? stringLength : 2 * stringLength;
+
+        if (length + byteLength > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + byteLength));
+        }
+
+        if (latin1) {
+            for (int i = 0; i < stringLength; ++i) {
+                bytes[length + i] = (byte) string.charAt(i);
+            }
+        } else {
+            utf16.set(size);
+
+            for (int i = 0; i < stringLength; ++i) {
+                char c = string.charAt(i);
+                bytes[length + 2 * i] = (byte) c;
+                bytes[length + 2 * i + 1] = (byte) (c >>> 8);
+            }
+        }
+
+        length += byteLength;
+        offsets[size + 1] = length;
+        return size++;
+    }
+
+    public String get(int index) {
+        int end = offsets[index + 1];
+
+        if (end < 0) {
+            return null;
+        }
+
+        int start = start(index);
+        var charset = utf16.get(index) ? StandardCharsets.UTF_16LE : StandardCharsets.ISO_8859_1;
+        return new String(bytes, start, end - start, charset);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void trimToSize() {
+        bytes = Arrays.copyOf(bytes, length);
+        offsets = Arrays.copyOf(offsets, size + 1);
+    }
+
+    private int start(int index) {
+        int start = offsets[index];
+        return start < 0 ? ~start : start;
+    }
+
+    private static boolean isLatin1(String string) {
+        for (int i = 0; i < string.length(); ++i) {
+            if (string.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.killergerbah.jsubtitle.util;
+
+public final class SymbolTable {
+
+    private static final int DEFAULT_MAX_SIZE = 1 << 16;
+
+    private final int maxSize;
+
+    private volatile String[] table = new String[64];
+    private int size;
+
+    public SymbolTable() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SymbolTable(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must not be negative: " + maxSize);
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    public String intern(String string) {
+        return intern(string, 0, string.length());
+    }
+
+    public String intern(CharSequence chars, int from, int to) {
+        int hash = hash(chars, from, to);
+        var symbols = table;
+        var symbol = symbols[slot(symbols, hash, chars, from, to)];
+
+        if (symbol != null) {
+            return symbol;
+        }
+
+        return insert(hash, chars, from, to);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private synchronized String insert(int hash, CharSequence chars, int from, int to) {
+        var symbols = table;
+        int slot = slot(symbols, hash, chars, from, to);
+
+        if (symbols[slot] != null) {
+            return symbols[slot];
+        }
+
+        var symbol = chars.subSequence(from, to).toString();
+
+        if (size >= maxSize) {
+            return symbol;
+        }
+
+        if (2 * (size + 1) > symbols.length) {
+            symbols = grow(symbols);
+            slot = slot(symbols, hash, chars, from, to);
+            symbols[slot] = symbol;
+            table = symbols;
+        } else {
+            symbols[slot] = symbol;
+        }
+
+        ++size;
+        return symbol;
+    }
+
+    private static String[] grow(String[] symbols) {
+        var grown = new String[symbols.length * 2];
+
+        for (var symbol : symbols) {
+            if (symbol != null) {
+                int slot = symbol.hashCode() & (grown.length - 1);
+
+                while (grown[slot] != null) {
+                    slot = (slot + 1) & (grown.length - 1);
+                }
+
+                grown[slot] = symbol;
+            }
+        }
+
+        return grown;
+    }
+
+    private static int slot(String[] symbols, int hash, CharSequence chars, int from, int to) {
+        int mask = symbols.length - 1;
+        int slot = hash & mask;
+
+        while (true) {
+            var symbol = symbols[slot];
+
+            if (symbol == null || (symbol.hashCode() == hash && equals(symbol, chars, from, to))) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private static int hash(CharSequence chars, int from, int to) {
+        int hash = 0;
+
+        for (int i = from; i < to; ++i) {
+            hash = 31 * hash + chars.charAt(i);
+        }
+
+        return hash;
+    }
+
+    private static boolean equals(String symbol, CharSequence chars, int from, int to) {
+        if (symbol.length() != to - from) {
+            return false;
+        }
+
+        for (int i = 0; i < symbol.length(); ++i) {
+            if (symbol.charAt(i) != chars.charAt(from + i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
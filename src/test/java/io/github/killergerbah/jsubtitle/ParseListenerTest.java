@@ -0,0 +1,117 @@
+package io.github.killergerbah.jsubtitle;
+
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseListenerTest {
+
+    private static final String ASS = "[Script Info]\n"
+            + "Title: Test\n"
+            + "ScriptType: v4.00+\n"
+            + "\n"
+            + "[Custom Data]\n"
+            + "font: embedded\n"
+            + "\n"
+            + "[V4+ Styles]\n"
+            + "Format: Name, Fontname, Fontsize, Glow\n"
+            + "Style: Default,Arial,48,1\n"
+            + "\n"
+            + "[Events]\n"
+            + "Format: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+            + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,One\n"
+            + "Comment: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,Note\n"
+            + "Karaoke: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,???\n"
+            + "Dialogue: 0,0:00:03.00,0:00:04.00,Default,,0,0,0,,Two\n";
+
+    private static final String SRT = "1\n00:00:01,000 --> 00:00:02,000\nOne\n\n"
+            + "2\n00:00:03,000 --> 00:00:04,000\nTwo\n";
+
+    @Test
+    void reports_ass_sections_and_anomalies() throws IOException {
+        var listener = new RecordingListener();
+        var options = ParseOptions.builder().listener(listener).build();
+
+        AssFile.read(ASS.getBytes(StandardCharsets.UTF_8), options);
+
+        assertEquals(List.of(
+                "start ASS",
+                "section Script Info 0",
+                "finished Script Info lines=3 entries=2",
+                "anomaly 4 Skipped unrecognized section",
+                "section Custom Data 4",
+                "finished Custom Data lines=2 entries=0",
+                "section V4+ Styles 7",
+                "anomaly 8 Unknown style format column: Glow",
+                "finished V4+ Styles lines=3 entries=1",
+                "section Events 11",
+                "anomaly 15 Ignored unknown event type",
+                "finished Events lines=6 entries=2",
+                "finished ASS bytes=" + ASS.getBytes(StandardCharsets.UTF_8).length + " lines=17 cues=2"
+        ), listener.calls);
+        assertTrue(listener.readNanos >= 0 && listener.parseNanos > 0);
+    }
+
+    @Test
+    void reports_srt_totals() throws IOException {
+        var listener = new RecordingListener();
+        var options = ParseOptions.builder().listener(listener).build();
+
+        SrtSubtitle.read(SRT.getBytes(StandardCharsets.UTF_8), options);
+
+        assertEquals(List.of("start SRT", "finished SRT bytes=" + SRT.length() + " lines=7 cues=2"), listener.calls);
+    }
+
+    @Test
+    void composes_listeners() throws IOException {
+        var first = new RecordingListener();
+        var second = new RecordingListener();
+        var options = ParseOptions.builder().listener(first.andThen(second)).build();
+
+        SrtSubtitle.read(SRT.getBytes(StandardCharsets.UTF_8), options);
+
+        assertEquals(first.calls, second.calls);
+        assertEquals(2, first.calls.size());
+    }
+
+    private static final class RecordingListener implements ParseListener {
+
+        private final List<String> calls = new ArrayList<>();
+        private long readNanos;
+        private long parseNanos;
+
+        @Override
+        public void parseStarted(SubtitleFormat format) {
+            calls.add("start " + format);
+        }
+
+        @Override
+        public void sectionStarted(SubtitleFormat format, String section, int lineNumber) {
+            calls.add("section " + section + " " + lineNumber);
+        }
+
+        @Override
+        public void sectionFinished(SubtitleFormat format, String section, int lines, int entries, long nanos) {
+            calls.add("finished " + section + " lines=" + lines + " entries=" + entries);
+        }
+
+        @Override
+        public void anomaly(SubtitleFormat format, int lineNumber, String reason, String line) {
+            calls.add("anomaly " + lineNumber + " " + reason);
+        }
+
+        @Override
+        public void parseFinished(SubtitleFormat format, long bytes, int lines, int cues, long readNanos, long parseNanos) {
+            calls.add("finished " + format + " bytes=" + bytes + " lines=" + lines + " cues=" + cues);
+            this.readNanos = readNanos;
+            this.parseNanos = parseNanos;
+        }
+    }
+}
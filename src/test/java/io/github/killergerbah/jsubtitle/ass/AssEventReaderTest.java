@@ -0,0 +1,88 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssEventReaderTest {
+
+    @Test
+    void reads_header_eagerly_and_events_lazily() throws IOException {
+        try (var reader = AssEventReader.from(getClass().getClassLoader().getResourceAsStream("testsubs1.ass"))) {
+            assertEquals("漫游字幕", reader.getScriptInfoSection().getTitle());
+            assertEquals("Default", reader.getStyleSection().getName());
+            assertTrue(reader.hasNext());
+
+            var event = reader.next();
+            assertEquals(560, event.getStart());
+            assertEquals(4790, event.getEnd());
+            assertEquals("{\\an1\\fs35\\fad(300,300)}ただ一人　迷い込む", event.getText());
+        }
+    }
+
+    @Test
+    void yields_events_in_file_order() throws IOException {
+        var ass = "[Script Info]\nTitle: t\n\n[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:05.00,0:00:06.00,Default,,0,0,0,,second\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,first\n";
+
+        try (var reader = AssEventReader.from(ass)) {
+            assertEquals("second", reader.next().getText());
+            assertEquals("first", reader.next().getText());
+            assertFalse(reader.hasNext());
+        }
+
+        try (var reader = AssEventReader.from(ass, true)) {
+            assertEquals("first", reader.next().getText());
+            assertEquals("second", reader.next().getText());
+            assertFalse(reader.hasNext());
+        }
+    }
+
+    @Test
+    void exposes_sections_that_follow_events_once_finished() throws IOException {
+        var ass = "[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,a\n\n"
+                + "[V4+ Styles]\nFormat: Name, Fontname, Fontsize\nStyle: Default,Arial,20\n\n"
+                + "[Script Info]\nTitle: late\n";
+
+        try (var reader = AssEventReader.from(ass)) {
+            assertNull(reader.getStyleSection());
+            assertEquals("a", reader.next().getText());
+            assertFalse(reader.hasNext());
+            assertEquals("Default", reader.getStyleSection().getName());
+            assertEquals("late", reader.getScriptInfoSection().getTitle());
+        }
+    }
+
+    @Test
+    void honors_parse_options() throws IOException {
+        var ass = "[Script Info]\nTitle: t\n\n[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,caf\u00e9\n";
+        var options = ParseOptions.builder()
+                .charset(StandardCharsets.ISO_8859_1)
+                .timeTransform(TimeTransform.shift(500))
+                .build();
+
+        try (var reader = AssEventReader.from(ass.getBytes(StandardCharsets.UTF_8), options)) {
+            var event = reader.next();
+
+            assertEquals("caf\u00c3\u00a9", event.getText());
+            assertEquals(1500, event.getStart());
+        }
+    }
+
+    @Test
+    void streams_same_events_as_ass_file() throws IOException {
+        var events = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs2.ass")).getEventSection().getEvents();
+
+        try (var reader = AssEventReader.from(getClass().getClassLoader().getResourceAsStream("testsubs2.ass"), true)) {
+            assertEquals(events.size(), reader.stream().count());
+        }
+    }
+}
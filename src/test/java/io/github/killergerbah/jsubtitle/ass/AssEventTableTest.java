@@ -0,0 +1,48 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssEventTableTest {
+
+    @Test
+    void stores_all_event_fields() throws IOException {
+        var events = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs2.ass")).getEventSection().getEvents();
+        var table = AssEventTable.of(events);
+
+        assertEquals(events.size(), table.size());
+
+        for (int i = 0; i < events.size(); ++i) {
+            var expected = events.get(i);
+            var actual = table.get(i);
+
+            assertEquals(expected.isMarked(), actual.isMarked());
+            assertEquals(expected.getLayer(), actual.getLayer());
+            assertEquals(expected.getStart(), actual.getStart());
+            assertEquals(expected.getEnd(), actual.getEnd());
+            assertEquals(expected.getStyle(), actual.getStyle());
+            assertEquals(expected.getName(), actual.getName());
+            assertEquals(expected.getMarginL(), actual.getMarginL());
+            assertEquals(expected.getMarginR(), actual.getMarginR());
+            assertEquals(expected.getMarginV(), actual.getMarginV());
+            assertEquals(expected.getEffect(), actual.getEffect());
+            assertEquals(expected.getText(), actual.getText());
+            assertEquals(expected.getText(), table.getText(i));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getStart(events.size()));
+    }
+
+    @Test
+    void keeps_null_fields() throws IOException {
+        var events = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs1.ass")).getEventSection().getEvents();
+        var table = AssEventTable.of(events);
+
+        assertNull(table.getName(0));
+        assertEquals("*Default", table.getStyle(0));
+        assertEquals(events.get(0).getText(), table.getEvents().get(0).getText());
+    }
+}
@@ -1,8 +1,13 @@
 package io.github.killergerbah.jsubtitle.ass;
 
+import io.github.killergerbah.jsubtitle.ParseDiagnostic;
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.util.SymbolTable;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -87,4 +92,117 @@ class AssFileTest {
         assertEquals(1080, scriptInfo.getPlayResY());
         assertEquals(0, scriptInfo.getTimer());
     }
+
+    @Test
+    void shares_repeated_field_values() throws IOException {
+        var ass = "[Script Info]\nTitle: t\n\n[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,Alice,0,0,0,,first\n"
+                + "Dialogue: 1,0:00:03.00,0:00:04.00,Default,Alice,0,0,0,,second\n";
+        var symbols = new SymbolTable();
+        var options = ParseOptions.builder().symbolTable(symbols).build();
+        var first = AssFile.read(ass, options).getEventSection().getEvents();
+        var second = AssFile.read(ass, options).getEventSection().getEvents();
+
+        assertEquals("Default", first.get(0).getStyle());
+        assertSame(first.get(0).getStyle(), first.get(1).getStyle());
+        assertSame(first.get(0).getStyle(), second.get(0).getStyle());
+        assertSame(first.get(1).getName(), second.get(1).getName());
+        assertEquals(1, first.get(1).getLayer());
+    }
+
+    @Test
+    void decodes_lazy_events_on_demand() throws IOException {
+        var ass = "[Script Info]\nTitle: t\n\n[Events]\nFormat: Marked, Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: -1,2,0:00:01.00,0:00:02.50,Sign,Alice,10,20,30,Fade,a, b\n";
+        var options = ParseOptions.builder().lazyEvents(true).build();
+        var event = AssFile.read(ass, options).getEventSection().getEvents().get(0);
+
+        assertEquals(1000, event.getStart());
+        assertEquals(2500, event.getEnd());
+        assertEquals("a, b", event.getText());
+        assertTrue(event.isMarked());
+        assertEquals(2, event.getLayer());
+        assertEquals("Sign", event.getStyle());
+        assertEquals("Alice", event.getName());
+        assertEquals("10", event.getMarginL());
+        assertEquals("20", event.getMarginR());
+        assertEquals("30", event.getMarginV());
+        assertEquals("Fade", event.getEffect());
+    }
+
+    @Test
+    void keeps_tied_lazy_events_undecoded() throws IOException {
+        var ass = "[Script Info]\nTitle: t\n\n[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 2,0:00:01.00,0:00:02.00,Sign,,0,0,0,,c\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Sign,,0,0,0,,a\n"
+                + "Dialogue: 1,0:00:01.00,0:00:02.00,Sign,,0,0,0,,b\n";
+        var options = ParseOptions.builder().lazyEvents(true).build();
+        var events = AssFile.read(ass, options).getEventSection().getEvents();
+
+        assertEquals(List.of(0, 1, 2), events.stream().map(DialogueEvent::getLayer).collect(Collectors.toList()));
+
+        for (var event : events) {
+            assertFalse(((AssFileParser.Event) event).isDecoded());
+        }
+
+        assertEquals("a", events.get(0).getText());
+        assertTrue(((AssFileParser.Event) events.get(0)).isDecoded());
+    }
+
+    @Test
+    void keeps_events_sharing_a_start_time() throws IOException {
+        var ass = "[Script Info]\nTitle: t\n\n[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 1,0:00:05.00,0:00:06.00,Default,,0,0,0,,e\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,a\n"
+                + "Dialogue: 1,0:00:01.00,0:00:02.00,Default,,0,0,0,,c\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,b\n"
+                + "Dialogue: 1,0:00:01.00,0:00:02.00,Default,,0,0,0,,d\n";
+        var events = AssFile.read(ass).getEventSection().getEvents();
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), events.stream().map(DialogueEvent::getText).collect(Collectors.toList()));
+    }
+
+    @Test
+    void lenient_read_skips_broken_lines() throws IOException {
+        var ass = "[Script Info]\nTitle: t\n\n"
+                + "[V4+ Styles]\nFormat: Name, Fontname, Fontsize\nStyle: Default,Arial,big\n\n"
+                + "[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,a\n"
+                + "Dialogue: x,0:00:03.00,0:00:04.00,Default,,0,0,0,,broken\n"
+                + "stray text\n"
+                + "Dialogue: 0,0:00:05.00,0:00:06.00,Default,,0,0,0,,b\n";
+
+        assertThrows(RuntimeException.class, () -> AssFile.read(ass));
+
+        var result = AssFile.readLenient(ass);
+        var events = result.getValue().getEventSection().getEvents();
+
+        assertEquals(List.of("a", "b"), events.stream().map(DialogueEvent::getText).collect(Collectors.toList()));
+        assertEquals("t", result.getValue().getScriptInfoSection().getTitle());
+        assertEquals(List.of(5, 10, 11), result.getDiagnostics().stream().map(ParseDiagnostic::getLineNumber).collect(Collectors.toList()));
+        assertEquals("stray text", result.getDiagnostics().get(2).getLine());
+        assertFalse(result.isClean());
+    }
+
+    @Test
+    void lenient_read_skips_lines_outside_sections() throws IOException {
+        var ass = "garbage\n[Events]\nDialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,a\n"
+                + "Format: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:05.00,0:00:06.00,Default,,0,0,0,,b\n";
+
+        var result = AssFile.readLenient(ass);
+
+        assertEquals(1, result.getValue().getEventSection().getEvents().size());
+        assertEquals("Line outside of any section", result.getDiagnostics().get(0).getReason());
+        assertEquals("Dialogue line before Format line", result.getDiagnostics().get(1).getReason());
+    }
+
+    @Test
+    void lenient_read_of_clean_file_has_no_diagnostics() throws IOException {
+        var result = AssFile.readLenient(getClass().getClassLoader().getResourceAsStream("testsubs2.ass"));
+
+        assertTrue(result.isClean());
+        assertEquals(AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs2.ass")).getEventSection().getEvents().size(),
+                result.getValue().getEventSection().getEvents().size());
+    }
 }
@@ -0,0 +1,39 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssTailReaderTest {
+
+    @Test
+    void parses_only_appended_events(@TempDir Path directory) throws IOException {
+        var file = directory.resolve("live.ass");
+        Files.writeString(file, "[Script Info]\nTitle: live\n\n[Events]\nFormat: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,first\nDialogue: 0,0:00:03.00,0:00:0");
+        var reader = AssTailReader.from(file.toFile());
+
+        var polled = reader.poll();
+        assertEquals(1, polled.size());
+        assertEquals("first", polled.get(0).getText());
+        assertEquals("live", reader.getScriptInfoSection().getTitle());
+
+        Files.write(file, "4.00,Default,,0,0,0,,second\nDialogue: 0,0:00:05.00,0:00:06.00,Default,,0,0,0,,third".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        polled = reader.poll();
+        assertEquals(1, polled.size());
+        assertEquals(3000, polled.get(0).getStart());
+        assertEquals(4000, polled.get(0).getEnd());
+        assertEquals("second", polled.get(0).getText());
+
+        polled = reader.finish();
+        assertEquals(1, polled.size());
+        assertEquals("third", polled.get(0).getText());
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AssTextTokenizerTest {
+
+    @Test
+    void tokenizes_tags_text_and_breaks() {
+        var text = "{\\an8\\pos(640, 80)\\fnArial Black}Top\\Nline{note}\\h{\\k20}ka{\\t(0,500,\\fscx120)}x";
+        var tokenizer = AssTextTokenizer.of(text);
+        var tokens = new ArrayList<String>();
+
+        while (tokenizer.next()) {
+            var token = new StringBuilder(tokenizer.getType().name());
+
+            if (tokenizer.getType() == AssTextTokenizer.Type.TAG) {
+                token.append(' ').append(tokenizer.getName());
+
+                for (int i = 0; i < tokenizer.getArgumentCount(); ++i) {
+                    token.append(i == 0 ? " " : "|").append(tokenizer.getArgument(i));
+                }
+            } else {
+                token.append(' ').append(tokenizer.getText());
+            }
+
+            tokens.add(token.toString());
+        }
+
+        assertEquals(List.of(
+                "TAG an 8",
+                "TAG pos 640|80",
+                "TAG fn Arial Black",
+                "TEXT Top",
+                "HARD_BREAK \\N",
+                "TEXT line",
+                "COMMENT note",
+                "HARD_SPACE \\h",
+                "TAG k 20",
+                "TEXT ka",
+                "TAG t 0|500|\\fscx120",
+                "TEXT x"), tokens);
+    }
+
+    @Test
+    void separates_drawings_from_text() {
+        var tokenizer = AssTextTokenizer.of("{\\p1}m 0 0 l 100 0{\\p0}label");
+
+        assertTrue(tokenizer.next());
+        assertTrue(tokenizer.isTag("p"));
+        assertTrue(tokenizer.next());
+        assertEquals(AssTextTokenizer.Type.DRAWING, tokenizer.getType());
+        assertTrue(tokenizer.next());
+        assertTrue(tokenizer.next());
+        assertEquals(AssTextTokenizer.Type.TEXT, tokenizer.getType());
+        assertEquals("label", tokenizer.getText());
+        assertFalse(tokenizer.next());
+    }
+
+    @Test
+    void computes_and_caches_plain_text() throws IOException {
+        var event = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs1.ass")).getEventSection().getEvents().get(0);
+
+        assertEquals("ただ一人　迷い込む", event.getPlainText());
+        assertSame(event.getPlainText(), event.getPlainText());
+        assertEquals("a\nb c{", AssTextTokenizer.plainText("{\\i1}a\\Nb\\nc{"));
+        assertEquals("plain", AssTextTokenizer.plainText("plain"));
+    }
+}
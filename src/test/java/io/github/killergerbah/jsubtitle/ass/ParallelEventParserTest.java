@@ -0,0 +1,66 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelEventParserTest {
+
+    @Test
+    void parses_same_as_sequential() throws IOException {
+        for (var name : new String[]{"testsubs1.ass", "testsubs2.ass"}) {
+            var bytes = getClass().getClassLoader().getResourceAsStream(name).readAllBytes();
+            var expected = AssFile.read(bytes);
+            var actual = ParallelEventParser.read(bytes, ParseOptions.DEFAULT, ForkJoinPool.commonPool(), 64);
+
+            assertEquals(expected.getScriptInfoSection().getTitle(), actual.getScriptInfoSection().getTitle());
+            assertEquals(expected.getStyleSection().getName(), actual.getStyleSection().getName());
+            assertSameEvents(expected.getEventSection().getEvents(), actual.getEventSection().getEvents());
+        }
+    }
+
+    @Test
+    void resumes_sequential_parsing_after_events() throws IOException {
+        var builder = new StringBuilder("[Script Info]\r\nTitle: t\r\n\r\n[Events]\r\n")
+                .append("Format: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\r\n");
+
+        for (int i = 0; i < 500; ++i) {
+            builder.append("Dialogue: 0,0:00:").append(String.format("%02d", i % 60)).append('.').append(String.format("%02d", i % 100))
+                    .append(",0:01:00.00,Default,,0,0,0,,line ").append(i).append("\r\n");
+
+            if (i % 50 == 0) {
+                builder.append("Comment: 0,0:00:00.00,0:00:00.00,Default,,0,0,0,,comment\r\n\r\n");
+            }
+        }
+
+        builder.append("\r\n[Fonts]\r\nfontname: a.ttf\r\n");
+        var bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+
+        var expected = AssFile.read(bytes);
+        var actual = ParallelEventParser.read(bytes, ParseOptions.DEFAULT, ForkJoinPool.commonPool(), 256);
+
+        assertSameEvents(expected.getEventSection().getEvents(), actual.getEventSection().getEvents());
+    }
+
+    private static void assertSameEvents(List<DialogueEvent> expected, List<DialogueEvent> actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); ++i) {
+            var e = expected.get(i);
+            var a = actual.get(i);
+            assertEquals(e.getLayer(), a.getLayer());
+            assertEquals(e.getStart(), a.getStart());
+            assertEquals(e.getEnd(), a.getEnd());
+            assertEquals(e.getStyle(), a.getStyle());
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getEffect(), a.getEffect());
+            assertEquals(e.getText(), a.getText());
+        }
+    }
+}
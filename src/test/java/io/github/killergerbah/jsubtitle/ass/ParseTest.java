@@ -0,0 +1,27 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParseTest {
+
+    @Test
+    void time() {
+        assertEquals(560, Parse.time("0:00:00.56"));
+        assertEquals(3_723_450, Parse.time("1:02:03.45"));
+        assertEquals(3_723_450, Parse.time("1:02:03:45"));
+    }
+
+    @Test
+    void time_range() {
+        assertEquals(4790, Parse.time("0,0:00:04.79,x", 2, 12));
+    }
+
+    @Test
+    void time_rejects_malformed() {
+        assertThrows(IllegalArgumentException.class, () -> Parse.time("0:00"));
+        assertThrows(IllegalArgumentException.class, () -> Parse.time("0:0a:00.00"));
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.killergerbah.jsubtitle.ass;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StyleTableTest {
+
+    @Test
+    void keeps_every_style() throws IOException {
+        var assFile = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs2.ass"));
+        var styles = assFile.getStyleSection().getStyles();
+
+        assertEquals(7, styles.size());
+        assertEquals(List.of("OP-JP", "OP-CN", "Staff", "OP-Other", "OP-Other-2", "CN", "单JP"),
+                styles.asList().stream().map(Style::getName).collect(Collectors.toList()));
+        assertEquals(5, styles.indexOf("CN"));
+        assertEquals(64, styles.getFontSize(5));
+        assertEquals("方正中雅宋_GBK", styles.getFontName(5));
+        assertEquals("单JP", assFile.getStyleSection().getName());
+        assertEquals(-1, styles.indexOf("Missing"));
+    }
+
+    @Test
+    void resolves_event_styles() throws IOException {
+        for (var lazy : new boolean[]{false, true}) {
+            var options = ParseOptions.builder().lazyEvents(lazy).build();
+            var assFile = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs2.ass"), options);
+            var styles = assFile.getStyleSection().getStyles();
+            var events = assFile.getEventSection().getEvents();
+            var table = AssEventTable.of(events);
+
+            for (int i = 0; i < events.size(); ++i) {
+                var event = events.get(i);
+
+                assertEquals(6, event.getStyleIndex());
+                assertEquals(event.getStyle(), styles.getName(event.getStyleIndex()));
+                assertEquals(event.getStyleIndex(), table.getStyleIndex(i));
+            }
+        }
+    }
+
+    @Test
+    void looks_up_names_without_leading_asterisk() throws IOException {
+        var ass = "[V4+ Styles]\n"
+                + "Format: Name, Fontname, Fontsize, Bold, Italic\n"
+                + "Style: Default,Arial,20,0,0\n"
+                + "Style: *Sign,Arial,30,-1,-1\n"
+                + "Style: Default,Arial,40,0,0\n"
+                + "\n"
+                + "[Events]\n"
+                + "Format: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,*Default,,0,0,0,,a\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Sign,,0,0,0,,b\n"
+                + "Dialogue: 0,0:00:01.00,0:00:02.00,Unknown,,0,0,0,,c\n";
+        var assFile = AssFile.read(ass);
+        var styles = assFile.getStyleSection().getStyles();
+        var events = assFile.getEventSection().getEvents();
+
+        assertEquals(3, styles.size());
+        assertEquals(2, events.get(0).getStyleIndex());
+        assertEquals(1, events.get(1).getStyleIndex());
+        assertEquals(-1, events.get(2).getStyleIndex());
+        assertEquals(2, styles.resolve("Unknown"));
+        assertTrue(styles.isBold(1));
+        assertTrue(styles.get(1).isItalic());
+        assertFalse(styles.isBold(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> styles.getName(3));
+    }
+
+    @Test
+    void does_not_carry_values_between_style_lines() throws IOException {
+        var ass = "[V4+ Styles]\n"
+                + "Format: Name, Fontname, Fontsize, Bold, MarginV\n"
+                + "Style: Full,Arial,20,-1,30\n"
+                + "Style: Short,Verdana\n"
+                + "Style: Broken,Tahoma,-1,-1,oops\n"
+                + "Style: Last,Georgia\n"
+                + "\n";
+        var result = AssFile.readLenient(ass);
+        var section = result.getValue().getStyleSection();
+        var styles = section.getStyles();
+
+        assertEquals(1, result.getDiagnostics().size());
+        assertEquals(3, styles.size());
+        assertEquals("Verdana", styles.getFontName(1));
+        assertEquals(0, styles.getFontSize(1));
+        assertFalse(styles.isBold(1));
+        assertEquals(0, styles.getMarginV(1));
+        assertEquals("Last", styles.getName(2));
+        assertEquals(0, styles.getFontSize(2));
+        assertFalse(styles.isBold(2));
+        assertEquals(0, section.getFontSize());
+        assertEquals("Georgia", section.getFontName());
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.killergerbah.jsubtitle.batch;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubtitleBatchTest {
+
+    @Test
+    void parses_directory_and_reports_failures(@TempDir Path dir) throws IOException, InterruptedException {
+        copy("testsubs1.srt", dir.resolve("a.srt"));
+        copy("testsubs1.ass", dir.resolve("b.ass"));
+        Files.createDirectory(dir.resolve("nested"));
+        copy("testsubs2.ass", dir.resolve("nested").resolve("c.ass"));
+        Files.writeString(dir.resolve("broken.ass"), "not a section\n");
+        Files.writeString(dir.resolve("notes.txt"), "ignored");
+
+        var results = new ArrayList<BatchResult>();
+        SubtitleBatch.builder()
+                .directory(dir)
+                .maxInFlight(2)
+                .build()
+                .run(results::add);
+
+        assertEquals(4, results.size());
+        assertEquals(1, results.stream().filter(r -> !r.isSuccess()).count());
+
+        for (var result : results) {
+            var name = result.getPath().getFileName().toString();
+
+            if (name.equals("broken.ass")) {
+                assertNotNull(result.getFailure());
+            } else if (name.equals("a.srt")) {
+                assertEquals(6, result.getSrtSubtitles().size());
+            } else {
+                assertNotNull(result.getAssFile().getEventSection());
+            }
+        }
+    }
+
+    @Test
+    void rethrows_callback_failures(@TempDir Path dir) throws IOException {
+        var paths = new ArrayList<Path>();
+
+        for (int i = 0; i < 20; ++i) {
+            var path = dir.resolve(i + ".srt");
+            copy("testsubs1.srt", path);
+            paths.add(path);
+        }
+
+        var calls = new AtomicInteger();
+        var batch = SubtitleBatch.builder()
+                .paths(paths)
+                .maxInFlight(1)
+                .build();
+
+        var thrown = assertThrows(IllegalStateException.class, () -> batch.run(result -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("callback failed");
+        }));
+
+        assertEquals("callback failed", thrown.getMessage());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void stops_calling_back_after_interrupt(@TempDir Path dir) throws Exception {
+        var paths = new ArrayList<Path>();
+
+        for (int i = 0; i < 8; ++i) {
+            var path = dir.resolve(i + ".srt");
+            copy("testsubs1.srt", path);
+            paths.add(path);
+        }
+
+        var executor = Executors.newFixedThreadPool(2);
+        var entered = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var calls = new AtomicInteger();
+        var thrown = new AtomicReference<Throwable>();
+        var batch = SubtitleBatch.builder()
+                .paths(paths)
+                .executor(executor)
+                .maxInFlight(2)
+                .build();
+        var runner = new Thread(() -> {
+            try {
+                batch.run(result -> {
+                    calls.incrementAndGet();
+                    entered.countDown();
+
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+
+        try {
+            runner.start();
+            entered.await();
+
+            while (runner.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+
+            runner.interrupt();
+            release.countDown();
+            runner.join();
+            int callsAtReturn = calls.get();
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue(thrown.get() instanceof InterruptedException);
+            assertEquals(callsAtReturn, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void applies_options_and_lenient_mode(@TempDir Path dir) throws IOException, InterruptedException {
+        Files.writeString(dir.resolve("a.srt"), "1\n00:00:01,000 --> 00:00:02,000\nfirst\n\nbroken\n\n2\n00:00:03,000 --> 00:00:04,000\nsecond\n");
+        var results = new ArrayList<BatchResult>();
+
+        SubtitleBatch.builder()
+                .directory(dir)
+                .options(ParseOptions.builder().timeTransform(TimeTransform.shift(100)).build())
+                .lenient(true)
+                .build()
+                .run(results::add);
+
+        assertEquals(1, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(2, results.get(0).getSrtSubtitles().size());
+        assertEquals(1100, results.get(0).getSrtSubtitles().get(0).getStart());
+        assertEquals(1, results.get(0).getDiagnostics().size());
+    }
+
+    @Test
+    void parses_paths_and_globs_on_supplied_executor(@TempDir Path dir) throws IOException, InterruptedException {
+        copy("testsubs1.srt", dir.resolve("a.srt"));
+        copy("testsubs2.srt", dir.resolve("b.srt"));
+        copy("testsubs2.ass", dir.resolve("c.ass"));
+
+        var executor = Executors.newFixedThreadPool(2);
+        var results = new ArrayList<BatchResult>();
+
+        try {
+            SubtitleBatch.builder()
+                    .paths(List.of(dir.resolve("c.ass")))
+                    .glob(dir, "*.srt")
+                    .executor(executor)
+                    .build()
+                    .run(results::add);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(BatchResult::isSuccess));
+    }
+
+    private void copy(String resource, Path target) throws IOException {
+        try (var in = getClass().getClassLoader().getResourceAsStream(resource)) {
+            Files.copy(in, target);
+        }
+    }
+}
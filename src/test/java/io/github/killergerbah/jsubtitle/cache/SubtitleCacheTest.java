@@ -0,0 +1,154 @@
+package io.github.killergerbah.jsubtitle.cache;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.util.SymbolTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubtitleCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void hits_until_file_changes() throws IOException {
+        var file = srt("a.srt", "hello");
+        var cache = SubtitleCache.builder().build();
+
+        var first = cache.getSrt(file.toFile());
+        assertSame(first, cache.getSrt(file.toFile()));
+
+        Files.writeString(file, "1\n00:00:01,000 --> 00:00:02,000\nchanged!\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+
+        assertEquals("changed!", cache.getSrt(file.toFile()).get(0).getText());
+
+        var stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(2, stats.getLoadCount());
+        assertEquals(1, stats.getEntryCount());
+        assertEquals(SubtitleCache.weigh(cache.getSrt(file.toFile())), stats.getWeight());
+    }
+
+    @Test
+    void shares_read_only_ass_files() throws IOException {
+        var file = directory.resolve("a.ass");
+        Files.write(file, getClass().getClassLoader().getResourceAsStream("testsubs2.ass").readAllBytes());
+        var cache = SubtitleCache.builder().build();
+
+        var assFile = cache.getAss(file.toFile());
+        var events = assFile.getEventSection().getEvents();
+
+        assertSame(assFile, cache.getAss(file.toFile()));
+        assertThrows(UnsupportedOperationException.class, events::clear);
+        assertThrows(UnsupportedOperationException.class, () -> events.set(0, events.get(1)));
+        assertThrows(UnsupportedOperationException.class, () -> assFile.getScriptInfoSection().getComments().clear());
+
+        long eventTextWeight = 0;
+
+        for (var event : events) {
+            eventTextWeight += 96 + 2L * event.getText().length();
+        }
+
+        assertTrue(cache.stats().getWeight() > eventTextWeight + 7 * 160);
+    }
+
+    @Test
+    void weighs_lazy_ass_files_without_decoding_events() throws IOException {
+        var file = directory.resolve("a.ass");
+        Files.write(file, getClass().getClassLoader().getResourceAsStream("testsubs2.ass").readAllBytes());
+        var symbols = new SymbolTable();
+        var options = ParseOptions.builder().lazyEvents(true).symbolTable(symbols).build();
+        var cache = SubtitleCache.builder().options(options).build();
+
+        var assFile = cache.getAss(file.toFile());
+
+        assertEquals(0, symbols.size());
+        assertEquals(SubtitleCache.weighLazy(assFile, Files.size(file)), cache.stats().getWeight());
+        assertTrue(cache.stats().getWeight() > 2 * Files.size(file));
+
+        assFile.getEventSection().getEvents().get(0).getStyle();
+        assertTrue(symbols.size() > 0);
+    }
+
+    @Test
+    void evicts_least_recently_used_by_weight() throws IOException {
+        var a = srt("a.srt", "aaaa");
+        var b = srt("b.srt", "bbbb");
+        var c = srt("c.srt", "cccc");
+        var cache = SubtitleCache.builder().maximumWeight(2 * (48 + 8)).build();
+
+        cache.getSrt(a.toFile());
+        cache.getSrt(b.toFile());
+        cache.getSrt(a.toFile());
+        cache.getSrt(c.toFile());
+
+        var stats = cache.stats();
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(2, stats.getEntryCount());
+
+        cache.getSrt(a.toFile());
+        assertEquals(2, cache.stats().getHitCount());
+    }
+
+    @Test
+    void loads_once_for_concurrent_requests() throws Exception {
+        var file = srt("a.srt", "hello");
+        var cache = SubtitleCache.builder().build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        var start = new CountDownLatch(1);
+
+        try {
+            var futures = new ArrayList<Future<Object>>();
+
+            for (int i = 0; i < 32; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cache.getSrt(file.toFile());
+                }));
+            }
+
+            start.countDown();
+            var first = futures.get(0).get();
+
+            for (var future : futures) {
+                assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, cache.stats().getLoadCount());
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    void does_not_cache_failures() throws IOException {
+        var file = directory.resolve("bad.srt");
+        Files.writeString(file, "1\nnot a timestamp\n");
+        var cache = SubtitleCache.builder().build();
+
+        assertThrows(RuntimeException.class, () -> cache.getSrt(file.toFile()));
+        assertEquals(1, cache.stats().getLoadFailureCount());
+        assertEquals(0, cache.stats().getEntryCount());
+    }
+
+    private Path srt(String name, String text) throws IOException {
+        var file = directory.resolve(name);
+        Files.writeString(file, "1\n00:00:01,000 --> 00:00:02,000\n" + text + "\n");
+        return file;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.killergerbah.jsubtitle.index;
+
+import io.github.killergerbah.jsubtitle.Cue;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextIndexTest {
+
+    @Test
+    void finds_phrases_and_terms() {
+        var index = new TextIndex();
+        index.add(List.of(
+                cue(0, 1000, "Where are we going?"),
+                cue(1000, 2000, "We are going home."),
+                cue(2000, 3000, "Going where, exactly?")));
+        int second = index.add(List.of(cue(500, 1500, "ARE WE there yet")));
+
+        assertEquals(List.of("0:0", "1:0"), ids(index.phrase("are we")));
+        assertEquals(List.of("0:1"), ids(index.phrase("We are GOING")));
+        assertEquals(List.of("0:0", "0:1", "0:2"), ids(index.all("going")));
+        assertEquals(List.of("0:0", "0:2"), ids(index.all("where going")));
+        assertEquals(List.of("0:0", "1:0"), ids(index.all("we are", 0, 1000)));
+        assertEquals(List.of("1:0"), ids(index.phrase("are we", 1000, 2000)));
+        assertTrue(index.phrase("going are").isEmpty());
+        assertTrue(index.phrase("nowhere").isEmpty());
+        assertEquals(1, second);
+        assertEquals(4, index.getCueCount());
+    }
+
+    @Test
+    void indexes_cjk_as_bigrams() throws IOException {
+        var index = new TextIndex();
+        var events = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs1.ass")).getEventSection().getEvents();
+        index.add(events);
+        index.add(List.of(cue(0, 1000, "漫游字幕组 presents"), cue(1000, 2000, "字")));
+
+        assertEquals(List.of("0:0"), ids(index.phrase("迷い込む")));
+        assertEquals(List.of("0:0"), ids(index.phrase("ただ一人")));
+        assertEquals(List.of("1:0"), ids(index.phrase("字幕组 presents")));
+        assertEquals(List.of("1:0", "1:1"), ids(index.phrase("字")));
+        assertEquals(List.of("1:0"), ids(index.all("幕")));
+        assertEquals(List.of("1:1"), ids(index.all("字", 1000, 2000)));
+        assertTrue(index.all("鯨").isEmpty());
+        assertTrue(index.phrase("一人ただ").isEmpty());
+        assertTrue(index.getPostingBytes() > 0);
+    }
+
+    private static List<String> ids(List<TextIndex.Hit> hits) {
+        return hits.stream().map(h -> h.getFileId() + ":" + h.getCueIndex()).collect(Collectors.toList());
+    }
+
+    private static Cue cue(long start, long end, String text) {
+        return new Cue() {
+            @Override
+            public long getStart() {
+                return start;
+            }
+
+            @Override
+            public long getEnd() {
+                return end;
+            }
+
+            @Override
+            public String getText() {
+                return text;
+            }
+        };
+    }
+}
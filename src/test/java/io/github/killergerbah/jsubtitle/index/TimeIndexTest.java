@@ -0,0 +1,88 @@
+package io.github.killergerbah.jsubtitle.index;
+
+import io.github.killergerbah.jsubtitle.Cue;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.ass.DialogueEvent;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeIndexTest {
+
+    @Test
+    void finds_subtitles_at_time() throws IOException {
+        var subtitles = SrtSubtitle.read(getClass().getClassLoader().getResourceAsStream("testsubs1.srt"));
+        var index = TimeIndex.of(subtitles);
+
+        assertEquals(6, index.size());
+        assertTrue(index.at(0).isEmpty());
+        assertEquals(1, index.at(13920).get(0).getIndex());
+        assertTrue(index.at(18180).isEmpty());
+        assertEquals(6, index.at(133839).get(0).getIndex());
+    }
+
+    @Test
+    void finds_events_overlapping_range() throws IOException {
+        var events = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs2.ass")).getEventSection().getEvents();
+        var index = TimeIndex.of(events);
+
+        for (long from = 0; from < 90_000; from += 1_000) {
+            long to = from + 5_000;
+            final long f = from;
+            var expected = events.stream()
+                    .filter(e -> e.getStart() < to && e.getEnd() > f)
+                    .map(DialogueEvent::getText)
+                    .sorted()
+                    .collect(Collectors.toList());
+            var actual = index.overlapping(from, to).stream()
+                    .map(DialogueEvent::getText)
+                    .sorted()
+                    .collect(Collectors.toList());
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void answers_point_queries_at_the_extremes() {
+        var index = TimeIndex.of(List.of(
+                cue(Long.MIN_VALUE, Long.MIN_VALUE + 1, "first"),
+                cue(0, 10, "middle"),
+                cue(Long.MAX_VALUE - 10, Long.MAX_VALUE, "last")));
+
+        assertEquals(List.of("first"), texts(index.at(Long.MIN_VALUE)));
+        assertEquals(List.of("middle"), texts(index.at(9)));
+        assertEquals(List.of("last"), texts(index.at(Long.MAX_VALUE - 1)));
+        assertTrue(index.at(Long.MAX_VALUE).isEmpty());
+        assertEquals(List.of("last"), texts(index.overlapping(Long.MAX_VALUE - 1, Long.MAX_VALUE)));
+        assertEquals(3, index.overlapping(Long.MIN_VALUE, Long.MAX_VALUE).size());
+    }
+
+    private static List<String> texts(List<Cue> cues) {
+        return cues.stream().map(Cue::getText).collect(Collectors.toList());
+    }
+
+    private static Cue cue(long start, long end, String text) {
+        return new Cue() {
+            @Override
+            public long getStart() {
+                return start;
+            }
+
+            @Override
+            public long getEnd() {
+                return end;
+            }
+
+            @Override
+            public String getText() {
+                return text;
+            }
+        };
+    }
+}
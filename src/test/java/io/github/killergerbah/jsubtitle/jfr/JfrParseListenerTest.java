@@ -0,0 +1,60 @@
+package io.github.killergerbah.jsubtitle.jfr;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrParseListenerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void emits_flight_recorder_events() throws IOException {
+        var options = ParseOptions.builder().listener(JfrParseListener.INSTANCE).build();
+        var file = directory.resolve("parse.jfr");
+
+        try (var recording = new Recording()) {
+            recording.enable("io.github.killergerbah.jsubtitle.Parse");
+            recording.enable("io.github.killergerbah.jsubtitle.Section");
+            recording.enable("io.github.killergerbah.jsubtitle.Anomaly");
+            recording.start();
+            AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs2.ass"), options);
+            AssFile.read("[Events]\nFormat: Layer, Start, End, Blur, Text\nDialogue: 0,0:00:01.00,0:00:02.00,0,Hi\n", options);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        var events = RecordingFile.readAllEvents(file);
+        var parses = named(events, "io.github.killergerbah.jsubtitle.Parse");
+        var sections = named(events, "io.github.killergerbah.jsubtitle.Section");
+        var anomalies = named(events, "io.github.killergerbah.jsubtitle.Anomaly");
+
+        assertEquals(2, parses.size());
+        assertEquals("ASS", parses.get(0).getString("format"));
+        assertTrue(parses.get(0).getLong("bytes") > 0);
+        assertTrue(parses.get(0).getInt("cues") > 0);
+        assertEquals(1, parses.get(1).getInt("anomalies"));
+        assertTrue(sections.stream().anyMatch(e -> "Events".equals(e.getString("section"))));
+        assertEquals(1, anomalies.size());
+        assertEquals("Unknown event format column: Blur", anomalies.get(0).getString("reason"));
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+}
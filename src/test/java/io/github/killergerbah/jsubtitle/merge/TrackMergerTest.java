@@ -0,0 +1,167 @@
+package io.github.killergerbah.jsubtitle.merge;
+
+import io.github.killergerbah.jsubtitle.Cue;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.ass.DialogueEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackMergerTest {
+
+    @Test
+    void pairs_overlapping_cues() {
+        var first = List.of(cue(0, 1000, "a"), cue(1000, 2000, "b"), cue(5000, 6000, "c"));
+        var second = List.of(cue(500, 1500, "x"), cue(1900, 3000, "y"), cue(7000, 8000, "z"));
+
+        var matches = TrackMerger.DEFAULT.match(first, second);
+
+        assertEquals(List.of("a|x", "b|x", "b|y"), texts(matches));
+        assertEquals(500, matches.get(0).getStart());
+        assertEquals(1000, matches.get(0).getEnd());
+        assertEquals("b\ny", matches.get(2).getText());
+    }
+
+    @Test
+    void applies_overlap_thresholds() {
+        var first = List.of(cue(0, 1000, "a"), cue(1000, 2000, "b"));
+        var second = List.of(cue(500, 1500, "x"), cue(1900, 3000, "y"));
+
+        var byMillis = TrackMerger.builder().minOverlap(200).build().match(first, second);
+        var byRatio = TrackMerger.builder().minOverlapRatio(0.5).build().match(first, second);
+
+        assertEquals(List.of("a|x", "b|x"), texts(byMillis));
+        assertEquals(List.of("a|x", "b|x"), texts(byRatio));
+        assertThrows(IllegalArgumentException.class, () -> TrackMerger.builder().minOverlapRatio(2));
+    }
+
+    @Test
+    void unions_into_segments() {
+        var first = List.of(cue(0, 1000, "a"), cue(3000, 4000, "b"));
+        var second = List.of(cue(500, 1500, "x"));
+
+        var segments = TrackMerger.builder().separator("\\N").build().union(first, second);
+
+        assertEquals(4, segments.size());
+        assertSegment(segments.get(0), 0, 500, "a");
+        assertSegment(segments.get(1), 500, 1000, "a\\Nx");
+        assertSegment(segments.get(2), 1000, 1500, "x");
+        assertSegment(segments.get(3), 3000, 4000, "b");
+    }
+
+    @Test
+    void merges_unsorted_collections() {
+        var first = List.of(cue(3000, 4000, "b"), cue(0, 1000, "a"));
+        var second = List.of(cue(3500, 3600, "y"), cue(500, 700, "x"));
+
+        assertEquals(List.of("a|x", "b|y"), texts(TrackMerger.DEFAULT.match(first, second)));
+    }
+
+    @Test
+    void rejects_unsorted_streams() {
+        var first = List.of(cue(3000, 4000, "b"), cue(0, 1000, "a"));
+        var matches = TrackMerger.DEFAULT.match(first.iterator(), List.of(cue(0, 5000, "x")).iterator());
+
+        assertThrows(IllegalArgumentException.class, () -> matches.forEachRemaining(m -> {
+        }));
+    }
+
+    @Test
+    void matches_nested_loop() {
+        var random = new Random(7);
+        var first = randomTrack(random, 500);
+        var second = randomTrack(random, 700);
+        var merger = TrackMerger.builder().minOverlap(100).minOverlapRatio(0.25).build();
+        var expected = new HashSet<String>();
+
+        for (var a : first) {
+            for (var b : second) {
+                if (merger.accepts(a, b)) {
+                    expected.add(a.getText() + "|" + b.getText());
+                }
+            }
+        }
+
+        var actual = merger.match(first.iterator(), second.iterator());
+        var pairs = new ArrayList<String>();
+        actual.forEachRemaining(m -> pairs.add(m.getFirst().getText() + "|" + m.getSecond().getText()));
+
+        assertEquals(expected.size(), pairs.size());
+        assertEquals(expected, new HashSet<>(pairs));
+
+        for (var segment : merger.union(first, second)) {
+            long mid = segment.getStart() + (segment.getEnd() - segment.getStart()) / 2;
+
+            for (var cue : segment.getFirst()) {
+                assertTrue(cue.getStart() <= segment.getStart() && cue.getEnd() >= segment.getEnd());
+            }
+
+            assertEquals(first.stream().filter(c -> c.getStart() <= mid && mid < c.getEnd()).count(), segment.getFirst().size());
+            assertEquals(second.stream().filter(c -> c.getStart() <= mid && mid < c.getEnd()).count(), segment.getSecond().size());
+        }
+    }
+
+    @Test
+    void pairs_ass_styles() throws IOException {
+        var events = AssFile.read("[Events]\n"
+                + "Format: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+                + "Dialogue: 0,0:00:01.00,0:00:03.00,CN,,0,0,0,,你好\n"
+                + "Dialogue: 0,0:00:01.10,0:00:02.90,单JP,,0,0,0,,こんにちは\n"
+                + "Dialogue: 0,0:00:04.00,0:00:05.00,CN,,0,0,0,,再见\n"
+                + "Dialogue: 0,0:00:04.00,0:00:05.00,单JP,,0,0,0,,さようなら\n").getEventSection().getEvents();
+        var japanese = events.stream().filter(e -> e.getStyle().equals("单JP")).collect(Collectors.toList());
+        var chinese = events.stream().filter(e -> e.getStyle().equals("CN")).collect(Collectors.toList());
+
+        List<TrackMerger.Match<DialogueEvent, DialogueEvent>> matches = TrackMerger.DEFAULT.match(japanese, chinese);
+
+        assertEquals(List.of("こんにちは|你好", "さようなら|再见"), texts(matches));
+    }
+
+    private static List<Cue> randomTrack(Random random, int size) {
+        var cues = new ArrayList<Cue>();
+        long time = 0;
+
+        for (int i = 0; i < size; ++i) {
+            time += random.nextInt(2000);
+            cues.add(cue(time, time + random.nextInt(4000), Integer.toString(i)));
+        }
+
+        return cues;
+    }
+
+    private static void assertSegment(TrackMerger.Segment<?, ?> segment, long start, long end, String text) {
+        assertEquals(start, segment.getStart());
+        assertEquals(end, segment.getEnd());
+        assertEquals(text, segment.getText());
+    }
+
+    private static List<String> texts(List<? extends TrackMerger.Match<?, ?>> matches) {
+        return matches.stream().map(m -> m.getFirst().getText() + "|" + m.getSecond().getText()).collect(Collectors.toList());
+    }
+
+    private static Cue cue(long start, long end, String text) {
+        return new Cue() {
+            @Override
+            public long getStart() {
+                return start;
+            }
+
+            @Override
+            public long getEnd() {
+                return end;
+            }
+
+            @Override
+            public String getText() {
+                return text;
+            }
+        };
+    }
+}
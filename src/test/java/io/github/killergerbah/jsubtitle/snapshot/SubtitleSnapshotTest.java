@@ -0,0 +1,170 @@
+package io.github.killergerbah.jsubtitle.snapshot;
+
+import io.github.killergerbah.jsubtitle.SubtitleFormat;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.ass.DialogueEvent;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubtitleSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void round_trips_ass() throws IOException {
+        var assFile = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs1.ass"));
+        var file = directory.resolve("testsubs1.snapshot").toFile();
+
+        SubtitleSnapshot.write(assFile, file);
+        var snapshot = SubtitleSnapshot.readAss(file);
+
+        assertEquals(SubtitleFormat.ASS, SubtitleSnapshot.format(file));
+        assertEquals(assFile.getScriptInfoSection().getTitle(), snapshot.getScriptInfoSection().getTitle());
+        assertEquals(assFile.getScriptInfoSection().getComments(), snapshot.getScriptInfoSection().getComments());
+        assertEquals(assFile.getScriptInfoSection().getPlayResX(), snapshot.getScriptInfoSection().getPlayResX());
+        assertEquals(assFile.getScriptInfoSection().getTimer(), snapshot.getScriptInfoSection().getTimer());
+        assertEquals(assFile.getStyleSection().getName(), snapshot.getStyleSection().getName());
+        assertEquals(assFile.getStyleSection().getFontSize(), snapshot.getStyleSection().getFontSize());
+        assertEquals(assFile.getStyleSection().getEncoding(), snapshot.getStyleSection().getEncoding());
+
+        var expected = assFile.getEventSection().getEvents();
+        var actual = snapshot.getEventSection().getEvents();
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEventEquals(expected.get(i), actual.get(i));
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> actual.get(actual.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> actual.get(-1));
+    }
+
+    @Test
+    void round_trips_all_styles() throws IOException {
+        var assFile = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs2.ass"));
+        var file = directory.resolve("testsubs2.snapshot").toFile();
+
+        SubtitleSnapshot.write(assFile, file);
+        var expected = assFile.getStyleSection().getStyles();
+        var actual = SubtitleSnapshot.readAss(file).getStyleSection().getStyles();
+
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.getName(i), actual.getName(i));
+            assertEquals(expected.getFontName(i), actual.getFontName(i));
+            assertEquals(expected.getPrimaryColor(i), actual.getPrimaryColor(i));
+            assertEquals(expected.getMarginV(i), actual.getMarginV(i));
+        }
+
+        assertEquals(6, SubtitleSnapshot.readAss(file).getEventSection().getEvents().get(0).getStyleIndex());
+    }
+
+    @Test
+    void round_trips_srt() throws IOException {
+        var subtitles = SrtSubtitle.read(getClass().getClassLoader().getResourceAsStream("testsubs1.srt"));
+        var file = directory.resolve("testsubs1.snapshot").toFile();
+
+        SubtitleSnapshot.write(subtitles, file);
+        var snapshot = SubtitleSnapshot.readSrt(file);
+
+        assertEquals(subtitles.size(), snapshot.size());
+
+        for (int i = 0; i < subtitles.size(); ++i) {
+            assertEquals(subtitles.get(i).getIndex(), snapshot.get(i).getIndex());
+            assertEquals(subtitles.get(i).getStart(), snapshot.get(i).getStart());
+            assertEquals(subtitles.get(i).getEnd(), snapshot.get(i).getEnd());
+            assertEquals(subtitles.get(i).getText(), snapshot.get(i).getText());
+        }
+
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(snapshot.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.get(-1));
+    }
+
+    @Test
+    void rejects_other_files() throws IOException {
+        var file = directory.resolve("testsubs1.srt");
+        Files.writeString(file, "1\n00:00:01,000 --> 00:00:02,000\nhello\n");
+
+        assertThrows(IOException.class, () -> SubtitleSnapshot.readSrt(file.toFile()));
+
+        var snapshot = directory.resolve("srt.snapshot").toFile();
+        SubtitleSnapshot.write(SrtSubtitle.read(file.toFile()), snapshot);
+
+        assertThrows(IOException.class, () -> SubtitleSnapshot.readAss(snapshot));
+    }
+
+    @Test
+    void rejects_truncated_and_corrupt_bodies() throws IOException {
+        var assFile = AssFile.read(getClass().getClassLoader().getResourceAsStream("testsubs1.ass"));
+        var ass = directory.resolve("ass.snapshot");
+        var srt = directory.resolve("srt.snapshot");
+        SubtitleSnapshot.write(assFile, ass.toFile());
+        SubtitleSnapshot.write(SrtSubtitle.read(getClass().getClassLoader().getResourceAsStream("testsubs1.srt")), srt.toFile());
+
+        assertRejectsTruncation(ass, file -> SubtitleSnapshot.readAss(file));
+        assertRejectsTruncation(srt, file -> SubtitleSnapshot.readSrt(file));
+
+        var bytes = Files.readAllBytes(srt);
+        bytes[8] = (byte) 0x7F;
+        Files.write(srt, bytes);
+        assertThrows(IOException.class, () -> SubtitleSnapshot.readSrt(srt.toFile()));
+    }
+
+    @Test
+    void replaces_snapshots_without_leaving_temporary_files() throws IOException {
+        var subtitles = SrtSubtitle.read(getClass().getClassLoader().getResourceAsStream("testsubs1.srt"));
+        var file = directory.resolve("testsubs1.snapshot").toFile();
+
+        SubtitleSnapshot.write(subtitles.subList(0, 1), file);
+        SubtitleSnapshot.write(subtitles, file);
+
+        assertEquals(subtitles.size(), SubtitleSnapshot.readSrt(file).size());
+
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(file.toPath()), files.collect(Collectors.toList()));
+        }
+    }
+
+    private static void assertRejectsTruncation(Path snapshot, Reader reader) throws IOException {
+        var bytes = Files.readAllBytes(snapshot);
+        var truncated = snapshot.resolveSibling("truncated.snapshot");
+
+        for (int length = 8; length < bytes.length; length += Math.max(1, bytes.length / 200)) {
+            Files.write(truncated, Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> reader.read(truncated.toFile()), "length " + length);
+        }
+    }
+
+    private interface Reader {
+
+        void read(File file) throws IOException;
+    }
+
+    private static void assertEventEquals(DialogueEvent expected, DialogueEvent actual) {
+        assertEquals(expected.isMarked(), actual.isMarked());
+        assertEquals(expected.getLayer(), actual.getLayer());
+        assertEquals(expected.getStart(), actual.getStart());
+        assertEquals(expected.getEnd(), actual.getEnd());
+        assertEquals(expected.getStyle(), actual.getStyle());
+        assertEquals(expected.getStyleIndex(), actual.getStyleIndex());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getMarginL(), actual.getMarginL());
+        assertEquals(expected.getMarginR(), actual.getMarginR());
+        assertEquals(expected.getMarginV(), actual.getMarginV());
+        assertEquals(expected.getEffect(), actual.getEffect());
+        assertEquals(expected.getText(), actual.getText());
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSrtParserTest {
+
+    @Test
+    void parses_same_as_sequential() throws IOException {
+        for (var name : new String[]{"testsubs1.srt", "testsubs2.srt"}) {
+            var bytes = getClass().getClassLoader().getResourceAsStream(name).readAllBytes();
+            assertSameSubtitles(SrtSubtitle.read(bytes), ParallelSrtParser.read(bytes, ParseOptions.DEFAULT, ForkJoinPool.commonPool(), 16));
+        }
+    }
+
+    @Test
+    void splits_only_at_cue_boundaries() throws IOException {
+        var builder = new StringBuilder();
+
+        for (int i = 1; i <= 300; ++i) {
+            builder.append(i).append("\r\n")
+                    .append(String.format("00:00:%02d,000 --> 00:00:%02d,500", i % 60, i % 60)).append("\r\n")
+                    .append("line ").append(i).append("\r\n");
+
+            if (i % 3 == 0) {
+                builder.append("42\r\n");
+            }
+
+            builder.append("\r\n");
+
+            if (i % 7 == 0) {
+                builder.append("\r\n");
+            }
+        }
+
+        var bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        var expected = SrtSubtitle.read(bytes);
+        var actual = ParallelSrtParser.read(bytes, ParseOptions.DEFAULT, ForkJoinPool.commonPool(), 100);
+
+        assertEquals(300, actual.size());
+        assertSameSubtitles(expected, actual);
+    }
+
+    @Test
+    void honors_forced_charset() throws IOException {
+        var bytes = "1\n00:00:01,000 --> 00:00:02,000\ncaf\u00e9\n".getBytes(StandardCharsets.UTF_8);
+        var options = ParseOptions.builder().charset(StandardCharsets.ISO_8859_1).build();
+        var actual = SrtSubtitle.readParallel(bytes, options, ForkJoinPool.commonPool());
+
+        assertEquals("caf\u00c3\u00a9", actual.get(0).getText());
+        assertSameSubtitles(SrtSubtitle.read(bytes, options), actual);
+
+        try (var reader = SrtSubtitleReader.from(bytes, options)) {
+            assertEquals("caf\u00c3\u00a9", reader.next().getText());
+        }
+    }
+
+    private static void assertSameSubtitles(List<SrtSubtitle> expected, List<SrtSubtitle> actual) {
+        assertEquals(expected.size(), actual.size());
+
+        for (int i = 0; i < expected.size(); ++i) {
+            assertEquals(expected.get(i).getIndex(), actual.get(i).getIndex());
+            assertEquals(expected.get(i).getStart(), actual.get(i).getStart());
+            assertEquals(expected.get(i).getEnd(), actual.get(i).getEnd());
+            assertEquals(expected.get(i).getText(), actual.get(i).getText());
+        }
+    }
+}
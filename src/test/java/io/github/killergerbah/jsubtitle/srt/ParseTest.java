@@ -3,6 +3,7 @@ package io.github.killergerbah.jsubtitle.srt;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ParseTest {
 
@@ -11,4 +12,17 @@ class ParseTest {
         long timestamp = Parse.timestamp("00:02:11,210");
         assertEquals(131210, timestamp);
     }
+
+    @Test
+    void timestamp_range() {
+        assertEquals(18180, Parse.timestamp("00:00:13,920 --> 00:00:18,180", 17, 29));
+    }
+
+    @Test
+    void timestamp_rejects_malformed() {
+        assertThrows(IllegalArgumentException.class, () -> Parse.timestamp("0:02:11,210"));
+        assertThrows(IllegalArgumentException.class, () -> Parse.timestamp("00:02:11,2100"));
+        assertThrows(IllegalArgumentException.class, () -> Parse.timestamp("00:02:11"));
+        assertThrows(IllegalArgumentException.class, () -> Parse.timestamp("00:0x:11,210"));
+    }
 }
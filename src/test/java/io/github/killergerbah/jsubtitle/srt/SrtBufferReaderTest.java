@@ -0,0 +1,60 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SrtBufferReaderTest {
+
+    @Test
+    void parses_same_as_line_parser() throws IOException {
+        for (var name : new String[]{"testsubs1.srt", "testsubs2.srt"}) {
+            var bytes = getClass().getClassLoader().getResourceAsStream(name).readAllBytes();
+            var expected = SrtSubtitle.read(bytes);
+            var actual = SrtSubtitle.read(ByteBuffer.wrap(bytes));
+
+            assertEquals(expected.size(), actual.size());
+
+            for (int i = 0; i < expected.size(); ++i) {
+                assertEquals(expected.get(i).getIndex(), actual.get(i).getIndex());
+                assertEquals(expected.get(i).getStart(), actual.get(i).getStart());
+                assertEquals(expected.get(i).getEnd(), actual.get(i).getEnd());
+                assertEquals(expected.get(i).getText(), actual.get(i).getText());
+            }
+        }
+    }
+
+    @Test
+    void maps_file(@TempDir Path dir) throws IOException {
+        var file = dir.resolve("subs.srt");
+        Files.write(file, "\uFEFF1\n00:00:01,000 --> 00:01:02,003\nfirst\nline\n\n2\r00:00:03,000 --> 00:00:04,000\rsecond".getBytes(StandardCharsets.UTF_8));
+
+        var subtitles = new ArrayList<SrtSubtitle>();
+        SrtBufferReader.map(file.toFile()).forEachRemaining(subtitles::add);
+
+        assertEquals(2, subtitles.size());
+        assertEquals(1, subtitles.get(0).getIndex());
+        assertEquals(1000, subtitles.get(0).getStart());
+        assertEquals(62003, subtitles.get(0).getEnd());
+        assertEquals("firstline", subtitles.get(0).getText());
+        assertEquals(2, subtitles.get(1).getIndex());
+        assertEquals("second", subtitles.get(1).getText());
+    }
+
+    @Test
+    void rejects_malformed_timestamps() {
+        var buffer = ByteBuffer.wrap("1\n00:00:01,000 -> 00:00:02,000\ntext\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> SrtSubtitle.read(buffer));
+
+        var invalidLength = ByteBuffer.wrap("1\n0:00:01,000 --> 00:00:02,000\ntext\n".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> SrtSubtitle.read(invalidLength));
+    }
+}
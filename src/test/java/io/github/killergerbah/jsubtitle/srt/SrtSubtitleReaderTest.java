@@ -0,0 +1,56 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SrtSubtitleReaderTest {
+
+    @Test
+    void iterates() throws IOException {
+        try (var reader = SrtSubtitleReader.from(getClass().getClassLoader().getResourceAsStream("testsubs1.srt"))) {
+            assertTrue(reader.hasNext());
+
+            var s = reader.next();
+            assertEquals(1, s.getIndex());
+            assertEquals(13920, s.getStart());
+            assertEquals(18180, s.getEnd());
+            assertEquals("（エレン）壁の向こうには海があるとアルミンが言った", s.getText());
+
+            int count = 1;
+
+            while (reader.hasNext()) {
+                s = reader.next();
+                ++count;
+            }
+
+            assertEquals(6, count);
+            assertEquals(6, s.getIndex());
+        }
+    }
+
+    @Test
+    void streams() {
+        try (var stream = SrtSubtitleReader.from(getClass().getClassLoader().getResourceAsStream("testsubs2.srt")).stream()) {
+            var indexes = stream.map(SrtSubtitle::getIndex).collect(Collectors.toList());
+            assertEquals(2, indexes.size());
+            assertEquals(1, indexes.get(0));
+            assertEquals(2, indexes.get(1));
+        }
+    }
+
+    @Test
+    void emits_last_subtitle_without_trailing_blank_line() {
+        var reader = SrtSubtitleReader.from("1\n00:00:01,000 --> 00:00:02,500\nhello");
+
+        assertTrue(reader.hasNext());
+        var s = reader.next();
+        assertEquals(1000, s.getStart());
+        assertEquals(2500, s.getEnd());
+        assertEquals("hello", s.getText());
+        assertFalse(reader.hasNext());
+    }
+}
@@ -0,0 +1,28 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SrtSubtitleTableTest {
+
+    @Test
+    void stores_all_subtitle_fields() throws IOException {
+        var subtitles = SrtSubtitle.read(getClass().getClassLoader().getResourceAsStream("testsubs1.srt"));
+        var table = SrtSubtitleTable.of(subtitles);
+
+        assertEquals(subtitles.size(), table.size());
+
+        for (int i = 0; i < subtitles.size(); ++i) {
+            var expected = subtitles.get(i);
+            var actual = table.asList().get(i);
+
+            assertEquals(expected.getIndex(), actual.getIndex());
+            assertEquals(expected.getStart(), actual.getStart());
+            assertEquals(expected.getEnd(), actual.getEnd());
+            assertEquals(expected.getText(), actual.getText());
+        }
+    }
+}
@@ -4,7 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class SrtSubtitleTest {
 
@@ -47,4 +47,34 @@ class SrtSubtitleTest {
         assertEquals(10427, s.getEnd());
         assertEquals("これからお前へ継承される巨人にもだ", s.getText());
     }
+
+    @Test
+    void lenient_read_skips_broken_cues() throws IOException {
+        var srt = "1\n00:00:01,000 --> 00:00:02,000\nOne\n\n"
+                + "2a\n00:00:03,000 --> 00:00:04,000\nBroken index\n\n"
+                + "3\n00:00:05,000 -> 00:00:06,000\nBroken arrow\nSecond line\n\n"
+                + "4\n00:00:07,000 --> 00:00:08,000\nFour\n";
+
+        assertThrows(NumberFormatException.class, () -> SrtSubtitle.read(srt));
+
+        var result = SrtSubtitle.readLenient(srt);
+        var subtitles = result.getValue();
+
+        assertEquals(2, subtitles.size());
+        assertEquals("One", subtitles.get(0).getText());
+        assertEquals(4, subtitles.get(1).getIndex());
+        assertEquals("Four", subtitles.get(1).getText());
+        assertEquals(2, result.getDiagnostics().size());
+        assertEquals(4, result.getDiagnostics().get(0).getLineNumber());
+        assertEquals("2a", result.getDiagnostics().get(0).getLine());
+        assertEquals(9, result.getDiagnostics().get(1).getLineNumber());
+    }
+
+    @Test
+    void lenient_read_of_clean_file_has_no_diagnostics() throws IOException {
+        var result = SrtSubtitle.readLenient(getClass().getClassLoader().getResourceAsStream("testsubs1.srt"));
+
+        assertTrue(result.isClean());
+        assertEquals(6, result.getValue().size());
+    }
 }
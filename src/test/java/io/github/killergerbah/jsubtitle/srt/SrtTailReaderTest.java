@@ -0,0 +1,110 @@
+package io.github.killergerbah.jsubtitle.srt;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.time.TimeTransform;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SrtTailReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void parses_only_appended_cues() throws IOException {
+        var file = directory.resolve("live.srt");
+        Files.writeString(file, "1\r\n00:00:01,000 --> 00:00:02,000\r\nfirst\r\n\r\n2\r\n00:00:03,000 --> 00:00:0");
+        var reader = SrtTailReader.from(file.toFile());
+
+        var polled = reader.poll();
+        assertEquals(1, polled.size());
+        assertEquals("first", polled.get(0).getText());
+
+        append(file, "4,000\r\nsec");
+        assertTrue(reader.poll().isEmpty());
+
+        append(file, "ond\r\n\r\n3\r\n00:00:05,000 --> 00:00:06,000\r\nthird\r\n");
+        polled = reader.poll();
+        assertEquals(1, polled.size());
+        assertEquals(2, polled.get(0).getIndex());
+        assertEquals(3000, polled.get(0).getStart());
+        assertEquals(4000, polled.get(0).getEnd());
+        assertEquals("second", polled.get(0).getText());
+        assertEquals(Files.size(file), reader.getOffset());
+
+        polled = reader.finish();
+        assertEquals(1, polled.size());
+        assertEquals("third", polled.get(0).getText());
+    }
+
+    @Test
+    void restarts_when_file_is_truncated() throws IOException {
+        var file = directory.resolve("live.srt");
+        Files.writeString(file, "1\n00:00:01,000 --> 00:00:02,000\nfirst\n\n2\n00:00:03,000 --> 00:00:04,000\nsecond\n\n");
+        var reader = SrtTailReader.from(file.toFile());
+        assertEquals(2, reader.poll().size());
+
+        Files.writeString(file, "1\n00:00:01,000 --> 00:00:02,000\nagain\n\n");
+        var polled = reader.poll();
+
+        assertEquals(1, polled.size());
+        assertEquals("again", polled.get(0).getText());
+    }
+
+    @Test
+    void decodes_appended_utf16_with_detected_charset() throws IOException {
+        var file = directory.resolve("live.srt");
+        var bytes = "\uFEFF1\r\n00:00:01,000 --> 00:00:02,000\r\n\u5B57\u5E55\r\n\r\n2\r\n00:00:03,000 --> 00:00:04,000\r\n\u3042\r\n"
+                .getBytes(StandardCharsets.UTF_16LE);
+        int split = 87;
+        Files.write(file, Arrays.copyOfRange(bytes, 0, split));
+        var reader = SrtTailReader.from(file.toFile());
+
+        var polled = reader.poll();
+        assertEquals(1, polled.size());
+        assertEquals("\u5B57\u5E55", polled.get(0).getText());
+
+        Files.write(file, Arrays.copyOfRange(bytes, split, bytes.length), StandardOpenOption.APPEND);
+        assertTrue(reader.poll().isEmpty());
+
+        polled = reader.finish();
+        assertEquals(1, polled.size());
+        assertEquals("\u3042", polled.get(0).getText());
+    }
+
+    @Test
+    void applies_options_and_lone_carriage_returns() throws IOException {
+        var file = directory.resolve("live.srt");
+        var shiftJis = Charset.forName("Shift_JIS");
+        Files.write(file, "1\r00:00:01,000 --> 00:00:02,000\r\u5B57\u5E55\r\rbroken\r\r2\r00:00:03,000 --> 00:00:04,000\rok\r".getBytes(shiftJis));
+        var options = ParseOptions.builder()
+                .charset(shiftJis)
+                .timeTransform(TimeTransform.shift(100))
+                .build();
+        var reader = SrtTailReader.fromLenient(file.toFile(), options);
+
+        var polled = reader.poll();
+        assertEquals(1, polled.size());
+        assertEquals("\u5B57\u5E55", polled.get(0).getText());
+        assertEquals(1100, polled.get(0).getStart());
+
+        polled = reader.finish();
+        assertEquals(1, polled.size());
+        assertEquals("ok", polled.get(0).getText());
+        assertEquals(1, reader.getDiagnostics().size());
+    }
+
+    private static void append(Path file, String text) throws IOException {
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.killergerbah.jsubtitle.time;
+
+import io.github.killergerbah.jsubtitle.ParseOptions;
+import io.github.killergerbah.jsubtitle.ass.AssEventTable;
+import io.github.killergerbah.jsubtitle.ass.AssFile;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitle;
+import io.github.killergerbah.jsubtitle.srt.SrtSubtitleTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeTransformTest {
+
+    private static final String SRT = "1\n00:00:01,000 --> 00:00:02,000\nOne\n\n"
+            + "2\n00:00:10,000 --> 00:00:12,500\nTwo\n";
+
+    private static final String ASS = "[Events]\n"
+            + "Format: Layer, Start, End, Style, Name, MarginL, MarginR, MarginV, Effect, Text\n"
+            + "Dialogue: 0,0:00:01.00,0:00:02.00,Default,,0,0,0,,One\n"
+            + "Dialogue: 0,0:00:10.00,0:00:12.50,Default,,0,0,0,,Two\n";
+
+    @Test
+    void shifts_and_scales() {
+        assertEquals(1500, TimeTransform.shift(500).apply(1000));
+        assertEquals(2000, TimeTransform.scale(2).apply(1000));
+        assertEquals(2500, TimeTransform.affine(2, 500).apply(1000));
+        assertEquals(1000, TimeTransform.identity().apply(1000));
+        assertEquals(1300, TimeTransform.shift(500).andThen(TimeTransform.shift(-200)).apply(1000));
+        assertThrows(IllegalArgumentException.class, () -> TimeTransform.scale(0));
+    }
+
+    @Test
+    void converts_frame_rates() {
+        var transform = TimeTransform.fps(25, 23.976);
+
+        assertEquals(Math.round(60_000 * 25 / 23.976), transform.apply(60_000));
+    }
+
+    @Test
+    void interpolates_between_anchors() {
+        var transform = TimeTransform.piecewise(new long[]{0, 1000, 3000}, new long[]{100, 1100, 2100});
+
+        assertEquals(100, transform.apply(0));
+        assertEquals(600, transform.apply(500));
+        assertEquals(1600, transform.apply(2000));
+        assertEquals(2600, transform.apply(4000));
+        assertEquals(-100, transform.apply(-200));
+
+        var times = new long[]{4000, 0, 500, 2000, -200, 1000};
+        transform.apply(times, 0, times.length);
+
+        assertArrayEquals(new long[]{2600, 100, 600, 1600, -100, 1100}, times);
+        assertThrows(IllegalArgumentException.class, () -> TimeTransform.piecewise(new long[]{0, 0}, new long[]{0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> TimeTransform.piecewise(new long[]{0, 1000, 2000}, new long[]{0, 1000, 500}));
+        assertEquals(1000, TimeTransform.piecewise(new long[]{0, 1000, 2000}, new long[]{0, 1000, 1000}).apply(1500));
+    }
+
+    @Test
+    void applies_to_array_ranges() {
+        var times = new long[]{1, 2, 3, 4};
+        TimeTransform.shift(10).apply(times, 1, 3);
+
+        assertArrayEquals(new long[]{1, 12, 13, 4}, times);
+    }
+
+    @Test
+    void retimes_srt_table() throws IOException {
+        var table = SrtSubtitleTable.of(SrtSubtitle.read(SRT));
+        table.retime(TimeTransform.shift(-1000));
+
+        assertEquals(0, table.getStart(0));
+        assertEquals(1000, table.getEnd(0));
+        assertEquals(9000, table.getStart(1));
+        assertEquals(11_500, table.asList().get(1).getEnd());
+    }
+
+    @Test
+    void retimes_ass_table() throws IOException {
+        var table = AssEventTable.of(AssFile.read(ASS).getEventSection().getEvents());
+        table.retime(TimeTransform.scale(2));
+
+        assertEquals(2000, table.getStart(0));
+        assertEquals(25_000, table.get(1).getEnd());
+    }
+
+    @Test
+    void retimes_while_parsing() throws IOException {
+        var options = ParseOptions.builder().timeTransform(TimeTransform.shift(250)).build();
+        var subtitles = SrtSubtitle.read(SRT.getBytes(StandardCharsets.UTF_8), options);
+        var streamed = SrtSubtitle.read(new ByteArrayInputStream(SRT.getBytes(StandardCharsets.UTF_8)), options);
+        var events = AssFile.read(ASS, options).getEventSection().getEvents();
+
+        assertEquals(1250, subtitles.get(0).getStart());
+        assertEquals(12_750, subtitles.get(1).getEnd());
+        assertEquals(1250, streamed.get(0).getStart());
+        assertEquals(12_750, streamed.get(1).getEnd());
+        assertEquals(1250, events.get(0).getStart());
+        assertEquals(12_750, events.get(1).getEnd());
+    }
+}
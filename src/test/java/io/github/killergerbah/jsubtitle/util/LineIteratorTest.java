@@ -0,0 +1,91 @@
+package io.github.killergerbah.jsubtitle.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LineIteratorTest {
+
+    private static final String TEXT = "Dialogue: ただ一人　迷い込む\n第二行：漫游字幕组\n";
+
+    @Test
+    void strips_byte_order_marks() throws IOException {
+        assertEquals(List.of("a", "b\uFEFFc"), lines(LineIterator.from("\uFEFFa\nb\uFEFFc")));
+        assertEquals(List.of("a"), lines(LineIterator.from(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, 'a'})));
+
+        var utf16 = "\uFEFF" + TEXT;
+        assertEquals(List.of(TEXT.split("\n")), lines(LineIterator.from(utf16.getBytes(StandardCharsets.UTF_16LE))));
+        assertEquals(List.of(TEXT.split("\n")), lines(LineIterator.from(utf16.getBytes(StandardCharsets.UTF_16BE))));
+    }
+
+    @Test
+    void detects_legacy_encodings() throws IOException {
+        var japanese = "ただ一人　迷い込む\nどこへ行くの？\n";
+        var chinese = "漫游字幕组\n第二行字幕\n";
+
+        assertEquals(List.of(japanese.split("\n")), lines(LineIterator.from(japanese.getBytes(Charset.forName("Shift_JIS")))));
+        assertEquals(List.of(chinese.split("\n")), lines(LineIterator.from(chinese.getBytes(Charset.forName("GBK")))));
+        assertEquals(List.of(TEXT.split("\n")), lines(LineIterator.from(TEXT.getBytes(StandardCharsets.UTF_16LE))));
+        assertEquals(List.of(TEXT.split("\n")), lines(LineIterator.from(TEXT.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void uses_explicit_charset() throws IOException {
+        var text = "café\n";
+
+        assertEquals(List.of("café"), lines(LineIterator.from(text.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.ISO_8859_1)));
+    }
+
+    @Test
+    void reads_streams_that_are_not_ready() throws IOException {
+        var bytes = "1\n2\n3".getBytes(StandardCharsets.UTF_8);
+        var trickle = new InputStream() {
+            private final InputStream delegate = new ByteArrayInputStream(bytes);
+
+            @Override
+            public int read() throws IOException {
+                return delegate.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return delegate.read(b, off, Math.min(len, 1));
+            }
+
+            @Override
+            public int available() {
+                return 0;
+            }
+        };
+
+        assertEquals(List.of("1", "2", "3"), lines(LineIterator.from(trickle)));
+    }
+
+    @Test
+    void transcodes_to_utf8() {
+        var bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+
+        assertSame(bytes, Charsets.toUtf8(bytes, null));
+        assertArrayEquals(bytes, Charsets.toUtf8(TEXT.getBytes(Charset.forName("GBK")), Charset.forName("GBK")));
+    }
+
+    private static List<String> lines(LineIterator lineIterator) throws IOException {
+        var lines = new ArrayList<String>();
+
+        try (lineIterator) {
+            while (lineIterator.hasNext()) {
+                lines.add(lineIterator.next());
+            }
+        }
+
+        return lines;
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.killergerbah.jsubtitle.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolTableTest {
+
+    @Test
+    void returns_canonical_instance() {
+        var symbols = new SymbolTable();
+        var first = symbols.intern(new String("Default"));
+        var second = symbols.intern("Dialogue: Default,", 10, 17);
+
+        assertEquals("Default", first);
+        assertSame(first, second);
+        assertEquals(1, symbols.size());
+    }
+
+    @Test
+    void grows_and_stops_caching_at_max_size() {
+        var symbols = new SymbolTable(100);
+
+        for (int i = 0; i < 200; ++i) {
+            assertEquals("s" + i, symbols.intern("s" + i));
+        }
+
+        assertEquals(100, symbols.size());
+        assertSame(symbols.intern("s99"), symbols.intern(new String("s99")));
+        assertNotSame(symbols.intern("s150"), symbols.intern(new String("s150")));
+    }
+}